@@ -0,0 +1,78 @@
+package com.example.yozi;
+
+import com.example.yozi.category.entity.Category;
+import com.example.yozi.category.entity.enums.CategoryType;
+import com.example.yozi.category.repository.CategoryRepository;
+import com.example.yozi.category.service.CategoryRegistry;
+import com.example.yozi.jwt.JwtKeyHolder;
+import com.example.yozi.user.entity.User;
+import com.example.yozi.user.entity.enums.SocialType;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 벤치마크 공통 준비물. DB 없이 서비스 코드만 측정하도록 리포지토리는 메서드 이름별 응답을 돌려주는 프록시로 대신합니다.
+ */
+public final class BenchmarkFixtures {
+
+    public static final String JWT_SECRET = Base64.getEncoder().encodeToString(
+            "yozi-benchmark-only-signing-key-0123456789".getBytes(StandardCharsets.UTF_8));
+
+    private BenchmarkFixtures() {
+    }
+
+    public static JwtKeyHolder jwtKeyHolder() {
+        return new JwtKeyHolder(JWT_SECRET);
+    }
+
+    public static User user() {
+        return User.builder()
+                .id(1L)
+                .socialId("benchmark-user")
+                .socialType(SocialType.KAKAO)
+                .nickname("벤치마크")
+                .build();
+    }
+
+    // category 테이블과 같은 구성 (id 1부터 CategoryType 순서대로)
+    public static CategoryRegistry categoryRegistry() {
+        List<Category> categories = new ArrayList<>();
+        for (CategoryType type : CategoryType.values()) {
+            Category category = new Category(type, type.name());
+            ReflectionTestUtils.setField(category, "id", (long) type.ordinal() + 1);
+            categories.add(category);
+        }
+        CategoryRegistry registry = new CategoryRegistry(
+                repository(CategoryRepository.class, Map.of("findAllByOrderByIdAsc", args -> categories)));
+        registry.refresh();
+        return registry;
+    }
+
+    /**
+     * @param answers 메서드 이름 → 인자를 받아 반환값을 만드는 함수. 없는 메서드를 호출하면 UnsupportedOperationException
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T repository(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> type.getSimpleName() + " stub";
+                };
+            }
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer == null) {
+                throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+            }
+            return answer.apply(args);
+        });
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.yozi;
+
+import com.example.yozi.budget.dto.MonthlyAnalysisDto;
+import com.example.yozi.transaction.dto.TransactionResponseDto;
+import com.example.yozi.transaction.entity.enums.PaymentMethod;
+import com.example.yozi.transaction.entity.enums.TransactionType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답 본문 직렬화 비용. ObjectMapper 는 Spring MVC 와 같은 Jackson2ObjectMapperBuilder 기본값으로 만듭니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    private ObjectWriter writer;
+    private MonthlyAnalysisDto monthlyAnalysis;
+    private List<TransactionResponseDto> transactionPage;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = objectMapper.writer();
+
+        LocalDate date = LocalDate.of(2026, 10, 31);
+        List<MonthlyAnalysisDto.TransactionDetail> details = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            details.add(new MonthlyAnalysisDto.TransactionDetail(date.minusDays(i / 2), "가맹점 " + i, 1_000 + i * 370));
+        }
+        monthlyAnalysis = MonthlyAnalysisDto.builder()
+                .currentMonthTotal(1_234_000)
+                .currentMonthAverage(39_806.45)
+                .previousMonthTotal(1_180_000)
+                .twoMonthsAgoTotal(1_320_000)
+                .transactions(details)
+                .transactionsNext("MjAyNi0xMC0wNjoxMjM0NQ")
+                .habitScore(72)
+                .habitScoreChange(4)
+                .habitFeedbackMessages(List.of("식비 지출이 지난달보다 12% 줄었어요.", "예산 안에서 잘 쓰고 있어요."))
+                .build();
+
+        transactionPage = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            transactionPage.add(new TransactionResponseDto((long) (100_000 - i), "벤치마크",
+                    i % 10 == 0 ? TransactionType.INCOME : TransactionType.EXPENSE, 1 + i % 8, "식료품/외식",
+                    i % 3 == 0 ? PaymentMethod.CASH : PaymentMethod.CARD, "가맹점 " + (i % 300), 1_000 + i * 37,
+                    i % 5 == 0 ? "메모" : null, date.minusDays(i / 5)));
+        }
+    }
+
+    @Benchmark
+    public byte[] monthlyAnalysis() throws Exception {
+        return writer.writeValueAsBytes(monthlyAnalysis);
+    }
+
+    @Benchmark
+    public byte[] transactionPage() throws Exception {
+        return writer.writeValueAsBytes(transactionPage);
+    }
+}
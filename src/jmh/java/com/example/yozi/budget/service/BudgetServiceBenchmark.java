@@ -0,0 +1,97 @@
+package com.example.yozi.budget.service;
+
+import com.example.yozi.BenchmarkFixtures;
+import com.example.yozi.budget.dto.AmountCalendarDto;
+import com.example.yozi.budget.dto.DailyAmountDto;
+import com.example.yozi.transaction.entity.enums.TransactionType;
+import com.example.yozi.transaction.repository.DailyTypeSumRow;
+import com.example.yozi.transaction.repository.TransactionRepository;
+import com.example.yozi.user.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 날짜·유형별 합계 행을 구간 배열로 모으는 비용 (getDailyIncomeExpense, 1년치 일/주 단위 달력). DB 조회는 제외합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BudgetServiceBenchmark {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 11, 1);
+    private static final LocalDate TO = LocalDate.of(2026, 10, 31);
+
+    private BudgetService budgetService;
+    private User user;
+
+    private record DailySum(LocalDate date, TransactionType type, long amount) implements DailyTypeSumRow {
+        @Override
+        public LocalDate getDate() {
+            return date;
+        }
+
+        @Override
+        public TransactionType getType() {
+            return type;
+        }
+
+        @Override
+        public Number getAmount() {
+            return amount;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        // 매일 지출, 5일마다 수입이 있는 사용자
+        List<DailyTypeSumRow> rows = new ArrayList<>();
+        for (LocalDate date = FROM; !date.isAfter(TO); date = date.plusDays(1)) {
+            rows.add(new DailySum(date, TransactionType.EXPENSE, 10_000 + date.getDayOfYear() * 13L));
+            if (date.getDayOfMonth() % 5 == 0) {
+                rows.add(new DailySum(date, TransactionType.INCOME, 50_000));
+            }
+        }
+
+        // 측정 구간에 필터링 비용이 섞이지 않도록 마지막 달 행은 미리 잘라둠
+        List<DailyTypeSumRow> lastMonth = rows.stream().filter(r -> r.getDate().getMonth() == TO.getMonth()).toList();
+
+        TransactionRepository transactionRepository = BenchmarkFixtures.repository(TransactionRepository.class,
+                Map.of("sumDailyByType", args -> FROM.equals(args[1]) ? rows : lastMonth));
+
+        budgetService = new BudgetService(null, BenchmarkFixtures.categoryRegistry(), transactionRepository,
+                null, null, null, null);
+        user = BenchmarkFixtures.user();
+    }
+
+    @Benchmark
+    public List<DailyAmountDto> dailyIncomeExpense() {
+        return budgetService.getDailyIncomeExpense(user, TO);
+    }
+
+    @Benchmark
+    public AmountCalendarDto yearByDay() {
+        return budgetService.getAmountCalendar(user, FROM, TO, AmountCalendarDto.Granularity.DAY);
+    }
+
+    @Benchmark
+    public AmountCalendarDto yearByWeek() {
+        return budgetService.getAmountCalendar(user, FROM, TO, AmountCalendarDto.Granularity.WEEK);
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.yozi.config;
+
+import com.example.yozi.BenchmarkFixtures;
+import com.example.yozi.jwt.JwtAuthenticationFilter;
+import com.example.yozi.jwt.JwtKeyHolder;
+import com.example.yozi.jwt.VerifiedTokenCache;
+import com.example.yozi.user.service.JwtService;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Server-Timing 을 끈 상태의 비용. 꺼져 있으면 필터/애스펙트/컨버터가 등록되지 않으므로
+ * 남는 것은 JWT 필터와 @CurrentUser 의 {@link RequestTimings#current()} 확인뿐입니다.
+ * <ul>
+ *     <li>hookDisabled: 기록 코드 한 곳의 비용 (ThreadLocal 조회 + null 분기)</li>
+ *     <li>jwtFilterDisabled / jwtFilterEnabled: 캐시 적중 JWT 필터 전체 (JwtAuthenticationFilterBenchmark.cached 와 같은 조건)</li>
+ *     <li>headerEnabled: 켰을 때 요청마다 만드는 RequestTimings 와 헤더 문자열</li>
+ * </ul>
+ * ./gradlew jmhCompare -PjmhIncludes='JwtAuthenticationFilterBenchmark|RequestTimingsBenchmark' 로 기준선과 비교합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestTimingsBenchmark {
+
+    private static final FilterChain NO_OP = (request, response) -> { };
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        JwtKeyHolder keyHolder = BenchmarkFixtures.jwtKeyHolder();
+        JwtService jwtService = new JwtService(keyHolder);
+        ReflectionTestUtils.setField(jwtService, "expirationTime", 3_600_000L);
+
+        filter = new JwtAuthenticationFilter(keyHolder, new VerifiedTokenCache(10_000));
+        request = new MockHttpServletRequest("GET", "/api/transactions");
+        request.addHeader("Authorization", "Bearer " + jwtService.generateToken(BenchmarkFixtures.user()));
+        response = new MockHttpServletResponse();
+        RequestTimings.stop();
+    }
+
+    @Benchmark
+    public long hookDisabled() {
+        RequestTimings timings = RequestTimings.current();
+        long started = timings != null ? System.nanoTime() : 0L;
+        if (timings != null) {
+            timings.add(RequestTimings.Phase.AUTH, System.nanoTime() - started);
+        }
+        return started;
+    }
+
+    @Benchmark
+    public void jwtFilterDisabled(Blackhole blackhole) throws Exception {
+        filter.doFilter(request, response, NO_OP);
+        blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public void jwtFilterEnabled(Blackhole blackhole) throws Exception {
+        RequestTimings timings = RequestTimings.start();
+        try {
+            filter.doFilter(request, response, NO_OP);
+            blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+            blackhole.consume(timings.nanos(RequestTimings.Phase.AUTH));
+        } finally {
+            RequestTimings.stop();
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Benchmark
+    public String headerEnabled() {
+        RequestTimings timings = RequestTimings.start();
+        try {
+            timings.add(RequestTimings.Phase.AUTH, 210_000);
+            timings.addRepositoryCall("TransactionRepository.findPageByUserId", 3_400_000);
+            timings.add(RequestTimings.Phase.SERIALIZATION, 300_000);
+            return timings.toHeader();
+        } finally {
+            RequestTimings.stop();
+        }
+    }
+}
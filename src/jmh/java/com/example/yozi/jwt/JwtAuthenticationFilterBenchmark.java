@@ -0,0 +1,97 @@
+package com.example.yozi.jwt;
+
+import com.example.yozi.BenchmarkFixtures;
+import com.example.yozi.user.service.JwtService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 실행되는 JWT 필터 비용. verify 는 캐시를 끈 상태(서명 검증 매번), cached 는 VerifiedTokenCache 적중.
+ * legacy 는 JwtKeyHolder 이전 필터의 요청당 경로 (비밀 키 디코딩, HMAC 키와 파서 생성 후 검증) 로 비교 기준입니다.
+ * 이전 필터가 요청마다 INFO 로 남기던 헤더 로그는 출력 대상에 따라 비용이 달라 포함하지 않았습니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final FilterChain NO_OP = (request, response) -> { };
+
+    private JwtAuthenticationFilter verifyingFilter;
+    private JwtAuthenticationFilter cachingFilter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        JwtKeyHolder keyHolder = BenchmarkFixtures.jwtKeyHolder();
+        JwtService jwtService = new JwtService(keyHolder);
+        ReflectionTestUtils.setField(jwtService, "expirationTime", 3_600_000L);
+
+        verifyingFilter = new JwtAuthenticationFilter(keyHolder, new VerifiedTokenCache(0));
+        cachingFilter = new JwtAuthenticationFilter(keyHolder, new VerifiedTokenCache(10_000));
+
+        request = new MockHttpServletRequest("GET", "/api/transactions");
+        request.addHeader("Authorization", "Bearer " + jwtService.generateToken(BenchmarkFixtures.user()));
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public void verify(Blackhole blackhole) throws Exception {
+        verifyingFilter.doFilter(request, response, NO_OP);
+        blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+        SecurityContextHolder.clearContext();
+    }
+
+    // 요청마다 파서를 만들며 서비스 로딩까지 반복하므로 안정될 때까지 더 오래 예열
+    @Benchmark
+    @Warmup(iterations = 10, time = 2)
+    public void legacy(Blackhole blackhole) {
+        String token = request.getHeader("Authorization").substring(7);
+        Claims claims = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(BenchmarkFixtures.JWT_SECRET)))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+        UserPrincipal userPrincipal = new UserPrincipal(claims.get("userId", Long.class),
+                claims.get("socialId", String.class), claims.get("nickname", String.class),
+                Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER")));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userPrincipal, null, userPrincipal.getAuthorities()));
+        blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public void cached(Blackhole blackhole) throws Exception {
+        cachingFilter.doFilter(request, response, NO_OP);
+        blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+        SecurityContextHolder.clearContext();
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.yozi.transaction.service;
+
+import com.example.yozi.BenchmarkFixtures;
+import com.example.yozi.transaction.dto.TransactionPageDto;
+import com.example.yozi.transaction.entity.enums.PaymentMethod;
+import com.example.yozi.transaction.entity.enums.TransactionType;
+import com.example.yozi.transaction.repository.TransactionRepository;
+import com.example.yozi.transaction.repository.TransactionRow;
+import com.example.yozi.user.entity.User;
+import com.example.yozi.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거래 목록 한 페이지를 TransactionResponseDto 로 변환하는 비용 (convertToDto + 커서 생성, DB 제외).
+ * size 는 페이지 크기, 최대값 200 이 서비스의 MAX_PAGE_SIZE 입니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransactionServiceBenchmark {
+
+    @Param({"50", "200"})
+    private int size;
+
+    private TransactionService transactionService;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        // 다음 페이지 여부 판단용으로 size + 1 건을 돌려줌
+        List<TransactionRow> rows = new ArrayList<>(size + 1);
+        LocalDate date = LocalDate.of(2026, 10, 31);
+        for (int i = 0; i <= size; i++) {
+            rows.add(new TransactionRow((long) (100_000 - i), i % 10 == 0 ? TransactionType.INCOME : TransactionType.EXPENSE,
+                    1 + i % 8, i % 3 == 0 ? PaymentMethod.CASH : PaymentMethod.CARD, "가맹점 " + (i % 300),
+                    1_000 + i * 37, i % 5 == 0 ? "메모" : null, date.minusDays(i / 5)));
+        }
+
+        TransactionRepository transactionRepository = BenchmarkFixtures.repository(TransactionRepository.class,
+                Map.of("findPageByUserId", args -> rows));
+        UserRepository userRepository = BenchmarkFixtures.repository(UserRepository.class,
+                Map.of("findNicknameById", args -> Optional.of("벤치마크")));
+
+        transactionService = new TransactionService(transactionRepository, BenchmarkFixtures.categoryRegistry(),
+                null, null, userRepository);
+        user = BenchmarkFixtures.user();
+    }
+
+    @Benchmark
+    public TransactionPageDto page() {
+        return transactionService.getAllTransactionsByUser(user, null, size);
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.yozi.loadtest;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 마이크로초 단위 로그-선형 히스토그램 (상대 오차 약 1.6%). 여러 스레드에서 동시에 기록할 수 있습니다.
+ * 128µs 미만은 1µs 단위, 그 이상은 2의 거듭제곱 구간마다 64칸으로 나눕니다.
+ */
+final class LatencyHistogram {
+
+    private static final int LINEAR = 128;
+    private static final int SUB_BUCKETS = 64;
+    private static final int MAX_SHIFT = 40; // 약 2^46µs, 실제로는 닿지 않는 상한
+
+    private final AtomicLongArray counts = new AtomicLongArray(LINEAR + SUB_BUCKETS * MAX_SHIFT);
+    private final LongAdder total = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    void record(long nanos) {
+        long micros = Math.max(0, nanos / 1_000);
+        counts.incrementAndGet(index(micros));
+        total.increment();
+        sum.add(micros);
+        max.accumulate(micros);
+    }
+
+    void addAll(LatencyHistogram other) {
+        for (int i = 0; i < counts.length(); i++) {
+            long count = other.counts.get(i);
+            if (count > 0) {
+                counts.addAndGet(i, count);
+            }
+        }
+        total.add(other.count());
+        sum.add(other.sum.sum());
+        max.accumulate(other.maxMicros());
+    }
+
+    long count() {
+        return total.sum();
+    }
+
+    long maxMicros() {
+        return max.get();
+    }
+
+    double meanMicros() {
+        long count = count();
+        return count == 0 ? 0 : (double) sum.sum() / count;
+    }
+
+    /**
+     * @param quantile 0 ~ 1 (예: 0.999)
+     * @return 해당 분위가 속한 구간의 상한 (µs)
+     */
+    long percentileMicros(double quantile) {
+        long count = count();
+        if (count == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(quantile * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= target) {
+                return Math.min(upperBound(i), maxMicros());
+            }
+        }
+        return maxMicros();
+    }
+
+    private static int index(long micros) {
+        if (micros < LINEAR) {
+            return (int) micros;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(micros) - 6; // micros >> shift 는 64 ~ 127
+        if (shift > MAX_SHIFT) {
+            return LINEAR + SUB_BUCKETS * MAX_SHIFT - 1;
+        }
+        return LINEAR + SUB_BUCKETS * (shift - 1) + (int) ((micros >> shift) - SUB_BUCKETS);
+    }
+
+    private static long upperBound(int index) {
+        if (index < LINEAR) {
+            return index;
+        }
+        int k = index - LINEAR;
+        int shift = k / SUB_BUCKETS + 1;
+        long mantissa = k % SUB_BUCKETS + SUB_BUCKETS;
+        return ((mantissa + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,328 @@
+package com.example.yozi.loadtest;
+
+import com.example.yozi.category.entity.Category;
+import com.example.yozi.category.entity.enums.CategoryType;
+import com.example.yozi.category.service.CategoryRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * 합성 가계부 데이터 생성기. JDBC 배치로 users / transactions / budget 에 직접 넣습니다.
+ * <ul>
+ *     <li>사용자별 거래 수는 소수 사용자에게 몰리는 멱법칙 분포 (모든 사용자 최소 1건)</li>
+ *     <li>사용자마다 카테고리 선호도, 카드 사용 비율, 소득 수준이 다름</li>
+ *     <li>금액은 카테고리별 중앙값을 갖는 로그정규분포, 가맹점은 카테고리별 체인 + 지점</li>
+ *     <li>날짜는 최근 months 개월, 주말 비중이 높고 수입은 주로 25일 급여</li>
+ * </ul>
+ * 같은 seed 면 같은 데이터가 만들어집니다.
+ */
+class LedgerGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(LedgerGenerator.class);
+
+    private static final int BATCH_SIZE = 5_000;
+    private static final int COMMIT_EVERY = 50_000;
+    private static final double USER_SKEW = 0.8;
+    private static final double INCOME_RATIO = 0.08;
+
+    private static final String INSERT_USER = "INSERT INTO users (id, social_id, social_type, nickname, created_at, updated_at) " +
+            "VALUES (?, ?, 'KAKAO', ?, ?, ?)";
+    private static final String INSERT_TRANSACTION = "INSERT INTO transactions " +
+            "(user_id, type, category_id, payment_method, vendor, amount, memo, transaction_date) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_BUDGET = "INSERT INTO budget (user_id, category_id, amount, budget_month) VALUES (?, ?, ?, ?)";
+
+    private record Spending(int weight, int medianAmount, double sigma, String[] vendors) {
+    }
+
+    // 지출 카테고리별 기본 비중, 금액 중앙값(원), 분산, 가맹점
+    private static final Map<CategoryType, Spending> SPENDING = new EnumMap<>(Map.of(
+            CategoryType.FOOD_DINING, new Spending(35, 12_000, 0.7,
+                    new String[]{"스타벅스", "김밥천국", "이마트", "배달의민족", "GS25", "CU", "맥도날드", "홈플러스", "파리바게뜨", "쿠팡이츠"}),
+            CategoryType.HOUSING_UTILITIES, new Spending(6, 90_000, 0.6,
+                    new String[]{"한국전력공사", "도시가스", "관리비", "SK브로드밴드", "KT"}),
+            CategoryType.TRANSPORTATION, new Spending(15, 6_000, 0.8,
+                    new String[]{"티머니", "카카오T", "GS칼텍스", "SK에너지", "코레일", "카카오T 주차"}),
+            CategoryType.SHOPPING_FASHION, new Spending(12, 45_000, 0.9,
+                    new String[]{"쿠팡", "무신사", "올리브영", "다이소", "11번가", "유니클로", "SSG.COM"}),
+            CategoryType.HEALTH_MEDICAL, new Spending(5, 25_000, 0.8,
+                    new String[]{"온누리약국", "연세내과", "서울치과", "바른정형외과"}),
+            CategoryType.EDUCATION, new Spending(4, 60_000, 0.7,
+                    new String[]{"교보문고", "인프런", "YES24", "해커스"}),
+            CategoryType.LEISURE_CULTURE, new Spending(13, 20_000, 0.8,
+                    new String[]{"CGV", "넷플릭스", "멜론", "야놀자", "인터파크", "롯데시네마"}),
+            CategoryType.FINANCE_OTHERS, new Spending(10, 30_000, 1.0,
+                    new String[]{"삼성화재", "카카오페이", "토스", "국민연금", "기부금"})
+    ));
+
+    private static final CategoryType[] EXPENSE_TYPES = SPENDING.keySet().toArray(CategoryType[]::new);
+
+    // 예산을 잡는 카테고리
+    private static final CategoryType[] BUDGET_TYPES = {CategoryType.FOOD_DINING, CategoryType.HOUSING_UTILITIES,
+            CategoryType.TRANSPORTATION, CategoryType.SHOPPING_FASHION, CategoryType.LEISURE_CULTURE};
+
+    private final DataSource dataSource;
+    private final Map<CategoryType, Integer> categoryIds = new EnumMap<>(CategoryType.class);
+    private final LoadTestSettings settings;
+    private final LocalDate today;
+    private final LocalDate firstDay;
+
+    LedgerGenerator(DataSource dataSource, CategoryRegistry categoryRegistry, LoadTestSettings settings, LocalDate today) {
+        this.dataSource = dataSource;
+        this.settings = settings;
+        this.today = today;
+        this.firstDay = YearMonth.from(today).minusMonths(settings.months() - 1).atDay(1);
+        for (CategoryType type : CategoryType.values()) {
+            Category category = categoryRegistry.findByType(type)
+                    .orElseThrow(() -> new IllegalStateException("카테고리가 초기화되지 않았습니다: " + type));
+            categoryIds.put(type, category.getId().intValue());
+        }
+    }
+
+    /**
+     * @return 이미 들어 있는 거래 수 (reuse-data 판단용)
+     */
+    long existingTransactions() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             var rs = statement.executeQuery("SELECT COUNT(*) FROM transactions")) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    void generate() throws SQLException {
+        long[] counts = transactionsPerUser();
+        long started = System.nanoTime();
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DELETE FROM habit_score");
+                statement.execute("DELETE FROM monthly_rollup");
+                statement.execute("DELETE FROM budget");
+                statement.execute("DELETE FROM transactions");
+                statement.execute("DELETE FROM users");
+            }
+            insertUsers(connection);
+
+            try (PreparedStatement tx = connection.prepareStatement(INSERT_TRANSACTION);
+                 PreparedStatement budget = connection.prepareStatement(INSERT_BUDGET)) {
+                long written = 0;
+                int pending = 0;
+                for (int u = 0; u < counts.length; u++) {
+                    long userId = u + 1;
+                    SplittableRandom random = new SplittableRandom(settings.seed() * 31 + userId);
+                    UserProfile profile = UserProfile.random(random);
+
+                    for (long i = 0; i < counts[u]; i++) {
+                        addTransaction(tx, userId, profile, random);
+                        written++;
+                        if (++pending % BATCH_SIZE == 0) {
+                            tx.executeBatch();
+                        }
+                        if (pending >= COMMIT_EVERY) {
+                            tx.executeBatch();
+                            connection.commit();
+                            pending = 0;
+                        }
+                        if (written % 1_000_000 == 0) {
+                            log.info("거래 {}건 생성 ({}건/s)", written, rate(written, started));
+                        }
+                    }
+                    addBudgets(budget, userId, profile, random);
+                    budget.executeBatch();
+                }
+                tx.executeBatch();
+                connection.commit();
+                log.info("사용자 {}명, 거래 {}건 생성 완료 ({}건/s)", counts.length, written, rate(written, started));
+            }
+        }
+    }
+
+    // 사용자 순위 r 의 비중 1 / r^USER_SKEW, 나머지는 앞 순위부터 1건씩
+    private long[] transactionsPerUser() {
+        int users = settings.users();
+        long remaining = settings.transactions() - users;
+        double[] weights = new double[users];
+        double total = 0;
+        for (int u = 0; u < users; u++) {
+            weights[u] = 1 / Math.pow(u + 1, USER_SKEW);
+            total += weights[u];
+        }
+
+        long[] counts = new long[users];
+        long assigned = 0;
+        for (int u = 0; u < users; u++) {
+            counts[u] = 1 + (long) Math.floor(remaining * weights[u] / total);
+            assigned += counts[u];
+        }
+        for (int u = 0; assigned < settings.transactions(); u = (u + 1) % users) {
+            counts[u]++;
+            assigned++;
+        }
+        return counts;
+    }
+
+    private void insertUsers(Connection connection) throws SQLException {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try (PreparedStatement ps = connection.prepareStatement(INSERT_USER)) {
+            for (int u = 1; u <= settings.users(); u++) {
+                ps.setLong(1, u);
+                ps.setString(2, "loadtest-" + u);
+                ps.setString(3, "부하테스트" + u);
+                ps.setTimestamp(4, now);
+                ps.setTimestamp(5, now);
+                ps.addBatch();
+                if (u % BATCH_SIZE == 0) {
+                    ps.executeBatch();
+                }
+            }
+            ps.executeBatch();
+        }
+    }
+
+    private void addTransaction(PreparedStatement ps, long userId, UserProfile profile, SplittableRandom random)
+            throws SQLException {
+        boolean income = random.nextDouble() < INCOME_RATIO;
+        CategoryType category;
+        int amount;
+        String vendor;
+        LocalDate date;
+        if (income) {
+            // 대부분 25일 급여, 나머지는 부수입
+            category = CategoryType.FINANCE_OTHERS;
+            boolean salary = random.nextDouble() < 0.7;
+            amount = salary ? profile.salary : roundWon(logNormal(random, 200_000, 0.8), 1_000);
+            vendor = salary ? "급여" : "부수입";
+            date = salary ? payday(random) : randomDate(random);
+        } else {
+            category = profile.pickCategory(random);
+            Spending spending = SPENDING.get(category);
+            amount = roundWon(logNormal(random, spending.medianAmount() * profile.spendingLevel, spending.sigma()), 100);
+            vendor = vendor(spending.vendors(), random);
+            date = randomDate(random);
+        }
+
+        ps.setLong(1, userId);
+        ps.setString(2, income ? "INCOME" : "EXPENSE");
+        ps.setInt(3, categoryIds.get(category));
+        ps.setString(4, random.nextDouble() < profile.cardRatio ? "CARD" : "CASH");
+        ps.setString(5, vendor);
+        ps.setInt(6, amount);
+        if (random.nextDouble() < 0.15) {
+            ps.setString(7, "메모 " + random.nextInt(100));
+        } else {
+            ps.setNull(7, Types.VARCHAR);
+        }
+        ps.setDate(8, Date.valueOf(date));
+        ps.addBatch();
+    }
+
+    private void addBudgets(PreparedStatement ps, long userId, UserProfile profile, SplittableRandom random)
+            throws SQLException {
+        for (YearMonth month = YearMonth.from(firstDay); !month.isAfter(YearMonth.from(today)); month = month.plusMonths(1)) {
+            for (CategoryType type : BUDGET_TYPES) {
+                int median = SPENDING.get(type).medianAmount();
+                ps.setLong(1, userId);
+                ps.setInt(2, categoryIds.get(type));
+                ps.setInt(3, roundWon(median * profile.spendingLevel * (10 + random.nextInt(20)), 10_000));
+                ps.setDate(4, Date.valueOf(month.atDay(1)));
+                ps.addBatch();
+            }
+        }
+    }
+
+    // 가맹점 순위도 멱법칙 (상위 체인에 몰림), 체인마다 지점 1~50
+    private String vendor(String[] vendors, SplittableRandom random) {
+        int rank = (int) Math.min(vendors.length - 1, Math.floor(Math.pow(random.nextDouble(), 2.0) * vendors.length));
+        int branch = 1 + random.nextInt(50);
+        return vendors[rank] + " " + branch + "호점";
+    }
+
+    // 주말은 평일보다 1.5배 자주
+    private LocalDate randomDate(SplittableRandom random) {
+        long days = ChronoUnit.DAYS.between(firstDay, today) + 1;
+        while (true) {
+            LocalDate date = firstDay.plusDays(random.nextLong(days));
+            boolean weekend = date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY;
+            if (weekend || random.nextDouble() < 1 / 1.5) {
+                return date;
+            }
+        }
+    }
+
+    private LocalDate payday(SplittableRandom random) {
+        YearMonth month = YearMonth.from(firstDay).plusMonths(random.nextInt(settings.months()));
+        LocalDate payday = month.atDay(25);
+        return payday.isAfter(today) ? month.minusMonths(1).atDay(25) : payday;
+    }
+
+    private static double logNormal(SplittableRandom random, double median, double sigma) {
+        return median * Math.exp(sigma * random.nextGaussian());
+    }
+
+    private static int roundWon(double amount, int unit) {
+        long rounded = Math.max(unit, Math.round(amount / unit) * unit);
+        return (int) Math.min(rounded, Integer.MAX_VALUE / 2);
+    }
+
+    private static long rate(long rows, long startedNanos) {
+        double seconds = Math.max((System.nanoTime() - startedNanos) / 1_000_000_000.0, 0.001);
+        return Math.round(rows / seconds);
+    }
+
+    // 사용자별 성향
+    private static final class UserProfile {
+        final double[] cumulativeWeights = new double[EXPENSE_TYPES.length];
+        final double cardRatio;
+        final double spendingLevel;
+        final int salary;
+
+        private UserProfile(SplittableRandom random) {
+            double total = 0;
+            for (int i = 0; i < EXPENSE_TYPES.length; i++) {
+                // 카테고리 선호도는 기본 비중의 0.3 ~ 1.7 배
+                total += SPENDING.get(EXPENSE_TYPES[i]).weight() * (0.3 + 1.4 * random.nextDouble());
+                cumulativeWeights[i] = total;
+            }
+            for (int i = 0; i < cumulativeWeights.length; i++) {
+                cumulativeWeights[i] /= total;
+            }
+            cardRatio = 0.6 + 0.35 * random.nextDouble();
+            spendingLevel = Math.exp(0.4 * random.nextGaussian());
+            salary = roundWon(logNormal(random, 3_000_000, 0.4), 10_000);
+        }
+
+        static UserProfile random(SplittableRandom random) {
+            return new UserProfile(random);
+        }
+
+        CategoryType pickCategory(SplittableRandom random) {
+            double r = random.nextDouble();
+            for (int i = 0; i < cumulativeWeights.length; i++) {
+                if (r < cumulativeWeights[i]) {
+                    return EXPENSE_TYPES[i];
+                }
+            }
+            return EXPENSE_TYPES[EXPENSE_TYPES.length - 1];
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.yozi.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 닫힌 루프 부하 생성기. concurrency 개의 가상 스레드가 각자 mix 비중대로 엔드포인트를 골라
+ * 응답을 받으면 바로 다음 요청을 보냅니다. 워밍업 동안의 결과는 버립니다.
+ */
+final class LoadDriver {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadDriver.class);
+
+    static final class EndpointStats {
+        final LatencyHistogram latency = new LatencyHistogram();
+        final LongAdder errors = new LongAdder();
+    }
+
+    private final URI base;
+    private final List<LoadUser> users;
+    private final List<LoadEndpoints.Weighted> mix;
+    private final LoadEndpoints.Context context;
+    private final LoadTestSettings settings;
+    private final int totalWeight;
+
+    LoadDriver(URI base, List<LoadUser> users, List<LoadEndpoints.Weighted> mix, LoadEndpoints.Context context,
+               LoadTestSettings settings) {
+        this.base = base;
+        this.users = users;
+        this.mix = mix;
+        this.context = context;
+        this.settings = settings;
+        this.totalWeight = mix.stream().mapToInt(LoadEndpoints.Weighted::weight).sum();
+    }
+
+    /**
+     * @return 엔드포인트 이름 → 측정 결과 (mix 순서)
+     */
+    Map<String, EndpointStats> run() {
+        Map<String, EndpointStats> stats = new LinkedHashMap<>();
+        for (LoadEndpoints.Weighted weighted : mix) {
+            stats.put(weighted.endpoint().name(), new EndpointStats());
+        }
+
+        long started = System.nanoTime();
+        long measureFrom = started + settings.warmup().toNanos();
+        long deadline = measureFrom + settings.duration().toNanos();
+        log.info("워밍업 {}, 측정 {}, 동시 사용자 {}", settings.warmup(), settings.duration(), settings.concurrency());
+
+        // 역순으로 닫히므로 workers 가 모두 끝난 뒤에 client, 그 다음 client 의 실행기를 닫음
+        try (ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .connectTimeout(Duration.ofSeconds(5))
+                     .executor(clientExecutor)
+                     .build();
+             ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Runnable> loops = new ArrayList<>();
+            for (int worker = 0; worker < settings.concurrency(); worker++) {
+                SplittableRandom random = new SplittableRandom(settings.seed() ^ (worker * 0x9E3779B97F4A7C15L));
+                loops.add(() -> loop(client, random, stats, measureFrom, deadline));
+            }
+            loops.forEach(workers::submit);
+        }
+        return stats;
+    }
+
+    private void loop(HttpClient client, SplittableRandom random, Map<String, EndpointStats> stats,
+                      long measureFrom, long deadline) {
+        while (System.nanoTime() < deadline) {
+            LoadEndpoints.Endpoint endpoint = pick(random);
+            LoadUser user = users.get(random.nextInt(users.size()));
+            HttpRequest request = endpoint.factory().create(base, user, random, context);
+
+            long sent = System.nanoTime();
+            boolean ok;
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                ok = endpoint.check().ok(response);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                ok = false;
+            }
+            long received = System.nanoTime();
+
+            if (sent < measureFrom || received > deadline) {
+                continue;
+            }
+            EndpointStats endpointStats = stats.get(endpoint.name());
+            if (ok) {
+                endpointStats.latency.record(received - sent);
+            } else {
+                endpointStats.errors.increment();
+            }
+        }
+    }
+
+    private LoadEndpoints.Endpoint pick(SplittableRandom random) {
+        int r = random.nextInt(totalWeight);
+        for (LoadEndpoints.Weighted weighted : mix) {
+            r -= weighted.weight();
+            if (r < 0) {
+                return weighted.endpoint();
+            }
+        }
+        return mix.get(mix.size() - 1).endpoint();
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.yozi.loadtest;
+
+import com.example.yozi.category.entity.enums.CategoryType;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * 부하 테스트가 호출하는 BudgetController / TransactionController / OauthController 엔드포인트.
+ * 날짜는 생성된 데이터 기간(최근 months 개월) 안에서 고릅니다. If-None-Match 를 보내지 않으므로 항상 본문을 계산합니다.
+ * auth.login 은 카카오 콜백을 {@link StubOauthProvider} 상대로 호출하며, 프론트엔드 성공 페이지로 리다이렉트되어야 성공입니다.
+ */
+final class LoadEndpoints {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    interface RequestFactory {
+        HttpRequest create(URI base, LoadUser user, RandomGenerator random, Context context);
+    }
+
+    record Context(LocalDate today, int months, int categoryCount) {
+
+        LocalDate randomDate(RandomGenerator random) {
+            return today.minusMonths(random.nextInt(months)).withDayOfMonth(1 + random.nextInt(28));
+        }
+    }
+
+    interface ResponseCheck {
+        boolean ok(HttpResponse<?> response);
+    }
+
+    record Endpoint(String name, RequestFactory factory, ResponseCheck check) {
+    }
+
+    record Weighted(Endpoint endpoint, int weight) {
+    }
+
+    private static final Map<String, Endpoint> ALL = new LinkedHashMap<>();
+
+    static {
+        get("transactions.list", (u, r, c) -> "/api/transactions?limit=50");
+        get("transactions.by-type", (u, r, c) -> "/api/transactions?type=" + (r.nextInt(4) == 0 ? "income" : "expense") + "&limit=50");
+        get("transactions.by-category", (u, r, c) -> "/api/transactions/category/" + (1 + r.nextInt(c.categoryCount())) + "?limit=50");
+        register("transactions.create", (base, user, r, c) -> json(base, user, "/api/transactions", String.format(
+                "{\"type\":\"EXPENSE\",\"categoryId\":%d,\"paymentMethod\":\"%s\",\"vendor\":\"부하테스트 가맹점\"," +
+                        "\"amount\":%d,\"memo\":null,\"transactionDate\":\"%s\"}",
+                1 + r.nextInt(c.categoryCount()), r.nextInt(5) == 0 ? "CASH" : "CARD",
+                (1 + r.nextInt(500)) * 100, c.today().minusDays(r.nextInt(28)))));
+        get("budgets.summary", (u, r, c) -> "/api/budgets/summary?date=" + c.randomDate(r));
+        get("budgets.main-summary", (u, r, c) -> "/api/budgets/main/summary");
+        get("budgets.daily-amounts", (u, r, c) -> "/api/budgets/main/daily-amounts?date=" + c.randomDate(r));
+        get("budgets.calendar", (u, r, c) -> "/api/budgets/calendar?from=" + c.today().minusDays(364) + "&to=" + c.today()
+                + "&granularity=" + (r.nextBoolean() ? "day" : "week"));
+        get("budgets.dashboard", (u, r, c) -> "/api/budgets/dashboard?date=" + c.today());
+        get("budgets.analysis", (u, r, c) -> "/api/budgets/analysis/monthly");
+        get("budgets.trend", (u, r, c) -> "/api/budgets/analysis/trend?months=12&byCategory=" + r.nextBoolean());
+        get("budgets.report", (u, r, c) -> "/api/budgets/report/categories?date=" + c.randomDate(r));
+        register("auth.login", (base, user, r, c) -> HttpRequest.newBuilder(base.resolve(
+                        "/auth/KAKAO/callback?code=" + URLEncoder.encode(user.socialId(), StandardCharsets.UTF_8)))
+                        .timeout(TIMEOUT)
+                        .GET()
+                        .build(),
+                // 실패해도 302 (에러 페이지) 이므로 리다이렉트 대상으로 판단
+                response -> response.statusCode() == 302
+                        && response.headers().firstValue("Location").orElse("").contains("/auth/success"));
+        register("budgets.set", (base, user, r, c) -> json(base, user, "/api/budgets?date=" + c.today(), String.format(
+                "[{\"categoryType\":\"%s\",\"amount\":%d}]",
+                CategoryType.values()[r.nextInt(CategoryType.values().length)], (10 + r.nextInt(90)) * 10_000)));
+    }
+
+    private LoadEndpoints() {
+    }
+
+    private interface PathFactory {
+        String path(LoadUser user, RandomGenerator random, Context context);
+    }
+
+    private static void get(String name, PathFactory path) {
+        register(name, (base, user, random, context) -> request(base, user, path.path(user, random, context)).GET().build());
+    }
+
+    private static void register(String name, RequestFactory factory) {
+        register(name, factory, response -> response.statusCode() < 400);
+    }
+
+    private static void register(String name, RequestFactory factory, ResponseCheck check) {
+        ALL.put(name, new Endpoint(name, factory, check));
+    }
+
+    private static HttpRequest json(URI base, LoadUser user, String path, String body) {
+        return request(base, user, path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static HttpRequest.Builder request(URI base, LoadUser user, String path) {
+        return HttpRequest.newBuilder(base.resolve(path))
+                .timeout(TIMEOUT)
+                .header("Authorization", "Bearer " + user.token());
+    }
+
+    /**
+     * "이름:비중,이름:비중" 형식을 해석합니다. 비중 0 인 항목은 제외합니다.
+     */
+    static List<Weighted> parseMix(String mix) {
+        List<Weighted> result = new ArrayList<>();
+        for (String entry : mix.split(",")) {
+            String trimmed = entry.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            int separator = trimmed.lastIndexOf(':');
+            if (separator < 0) {
+                throw new IllegalArgumentException("loadtest.mix 항목은 이름:비중 형식이어야 합니다: " + trimmed);
+            }
+            String name = trimmed.substring(0, separator).trim();
+            Endpoint endpoint = ALL.get(name);
+            if (endpoint == null) {
+                throw new IllegalArgumentException("알 수 없는 엔드포인트: " + name + " (가능한 값: " + ALL.keySet() + ")");
+            }
+            int weight = Integer.parseInt(trimmed.substring(separator + 1).trim());
+            if (weight > 0) {
+                result.add(new Weighted(endpoint, weight));
+            }
+        }
+        if (result.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix 에 비중이 있는 엔드포인트가 없습니다: " + mix);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.yozi.loadtest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 엔드포인트별 처리량과 지연 분위수(p50/p99/p999) 를 Markdown 표로 만듭니다.
+ * loadtest.threads=both 로 두 스레드 모드를 연달아 실행하면 {@link #comparison} 으로 모드별 처리량/p99 를 나란히 비교합니다.
+ */
+final class LoadReport {
+
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final LoadTestSettings settings;
+    private final Map<String, LoadDriver.EndpointStats> stats;
+    private final String text;
+
+    LoadReport(LoadTestSettings settings, long generatedRows, Map<String, LoadDriver.EndpointStats> stats) {
+        this.settings = settings;
+        this.stats = stats;
+        double seconds = seconds(settings);
+        StringBuilder sb = new StringBuilder();
+        sb.append("# yozi load test ").append(LocalDateTime.now().withNano(0)).append("\n\n");
+        sb.append(String.format(Locale.ROOT, "- 데이터: 거래 %,d건, 사용자 %,d명, %d개월 (seed %d)%n",
+                generatedRows, settings.users(), settings.months(), settings.seed()));
+        sb.append(String.format(Locale.ROOT, "- 부하: 동시 사용자 %d, 워밍업 %s, 측정 %s, mix %s, 스레드 %s, OAuth 지연 %s%n",
+                settings.concurrency(), settings.warmup(), settings.duration(), settings.mixName(),
+                settings.threadMode(), settings.oauthLatency()));
+        sb.append("- JVM: ").append(Runtime.version()).append(", 프로세서 ").append(Runtime.getRuntime().availableProcessors())
+                .append(", 최대 힙 ").append(Runtime.getRuntime().maxMemory() / (1024 * 1024)).append("MB\n\n");
+
+        sb.append("| endpoint | requests | errors | req/s | mean ms | p50 ms | p99 ms | p999 ms | max ms |\n");
+        sb.append("|---|---:|---:|---:|---:|---:|---:|---:|---:|\n");
+        LatencyHistogram all = new LatencyHistogram();
+        long allErrors = 0;
+        for (Map.Entry<String, LoadDriver.EndpointStats> entry : stats.entrySet()) {
+            LoadDriver.EndpointStats endpoint = entry.getValue();
+            row(sb, entry.getKey(), endpoint.latency, endpoint.errors.sum(), seconds);
+            all.addAll(endpoint.latency);
+            allErrors += endpoint.errors.sum();
+        }
+        row(sb, "**total**", all, allErrors, seconds);
+        text = sb.toString();
+    }
+
+    /**
+     * 같은 데이터, 같은 mix 로 측정한 결과들의 엔드포인트별 처리량과 p99 를 한 표로 만듭니다 (열 순서 = reports 순서).
+     */
+    static String comparison(List<LoadReport> reports) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("# yozi load test thread modes ").append(LocalDateTime.now().withNano(0)).append("\n\n");
+        sb.append("| endpoint |");
+        for (LoadReport report : reports) {
+            sb.append(" ").append(report.settings.threadMode()).append(" req/s |");
+        }
+        for (LoadReport report : reports) {
+            sb.append(" ").append(report.settings.threadMode()).append(" p99 ms |");
+        }
+        sb.append("\n|---|").append("---:|".repeat(reports.size() * 2)).append("\n");
+
+        for (String endpoint : reports.get(0).stats.keySet()) {
+            sb.append("| ").append(endpoint).append(" |");
+            for (LoadReport report : reports) {
+                sb.append(String.format(Locale.ROOT, " %.1f |",
+                        report.stats.get(endpoint).latency.count() / seconds(report.settings)));
+            }
+            for (LoadReport report : reports) {
+                sb.append(String.format(Locale.ROOT, " %.2f |",
+                        report.stats.get(endpoint).latency.percentileMicros(0.99) / 1000.0));
+            }
+            sb.append("\n");
+        }
+        sb.append("\n");
+        for (LoadReport report : reports) {
+            sb.append(report.text).append("\n");
+        }
+        return sb.toString();
+    }
+
+    private static double seconds(LoadTestSettings settings) {
+        return settings.duration().toMillis() / 1000.0;
+    }
+
+    private static void row(StringBuilder sb, String name, LatencyHistogram latency, long errors, double seconds) {
+        sb.append(String.format(Locale.ROOT, "| %s | %,d | %,d | %.1f | %.2f | %.2f | %.2f | %.2f | %.2f |%n",
+                name, latency.count(), errors, latency.count() / seconds, latency.meanMicros() / 1000.0,
+                latency.percentileMicros(0.50) / 1000.0, latency.percentileMicros(0.99) / 1000.0,
+                latency.percentileMicros(0.999) / 1000.0, latency.maxMicros() / 1000.0));
+    }
+
+    LoadTestSettings settings() {
+        return settings;
+    }
+
+    String text() {
+        return text;
+    }
+
+    Path write(Path dir) throws IOException {
+        return write(dir, "loadtest-" + settings.threadMode(), text);
+    }
+
+    static Path write(Path dir, String prefix, String text) throws IOException {
+        Files.createDirectories(dir);
+        Path file = dir.resolve(prefix + "-" + LocalDateTime.now().format(FILE_TIME) + ".md");
+        Files.writeString(file, text, StandardCharsets.UTF_8);
+        return file;
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.yozi.loadtest;
+
+import com.example.yozi.YoziApplication;
+import com.example.yozi.category.entity.CategoryInitializer;
+import com.example.yozi.category.entity.enums.CategoryType;
+import com.example.yozi.category.repository.CategoryRepository;
+import com.example.yozi.category.service.CategoryRegistry;
+import com.example.yozi.transaction.service.MonthlyRollupService;
+import com.example.yozi.user.entity.User;
+import com.example.yozi.user.entity.enums.SocialType;
+import com.example.yozi.user.service.JwtService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 오프라인 부하 테스트 진입점 (./gradlew loadTest).
+ * <ol>
+ *     <li>loadtest 프로필로 앱을 내장 H2(MySQL 모드) 위에 띄움 (Flyway 로 스키마 생성)</li>
+ *     <li>LedgerGenerator 로 합성 데이터를 넣고 monthly_rollup 재계산</li>
+ *     <li>사용자마다 JwtService 로 토큰 발급 (auth.login 엔드포인트만 {@link StubOauthProvider} 상대로 실제 로그인)</li>
+ *     <li>LoadDriver 로 mix 비중대로 요청, 결과를 build/reports/loadtest 에 저장</li>
+ * </ol>
+ * 스레드 모드(spring.threads.virtual.enabled) 는 기동 시에 정해지므로 loadtest.threads 는 시스템 프로퍼티
+ * (-Ploadtest.threads=platform|virtual|both) 로만 지정합니다. both 면 platform 으로 측정한 뒤 같은 DB 로
+ * 앱을 virtual 모드로 다시 띄워 측정하고, 두 결과의 처리량/p99 비교표를 loadtest-threads-*.md 로 저장합니다.
+ */
+public final class LoadTestRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTestRunner.class);
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<Boolean> modes = switch (System.getProperty("loadtest.threads", "platform")) {
+            case "platform" -> List.of(false);
+            case "virtual" -> List.of(true);
+            case "both" -> List.of(false, true);
+            default -> throw new IllegalArgumentException(
+                    "loadtest.threads 는 platform, virtual, both 중 하나여야 합니다: " + System.getProperty("loadtest.threads"));
+        };
+        if (!Boolean.getBoolean("loadtest.reuse-data")) {
+            deleteDatabase(Path.of(System.getProperty("loadtest.work-dir", "build/loadtest")));
+        }
+
+        try (StubOauthProvider oauth = new StubOauthProvider()) {
+            List<LoadReport> reports = new ArrayList<>();
+            for (int i = 0; i < modes.size(); i++) {
+                // 두 번째 모드는 첫 실행이 만든 데이터를 그대로 사용
+                reports.add(run(args, modes.get(i), i > 0, oauth));
+            }
+            if (reports.size() > 1) {
+                String comparison = LoadReport.comparison(reports);
+                Path file = LoadReport.write(reports.get(0).settings().reportDir(), "loadtest-threads", comparison);
+                System.out.println(comparison);
+                log.info("스레드 모드 비교 저장: {}", file.toAbsolutePath());
+            }
+        }
+    }
+
+    private static LoadReport run(String[] args, boolean virtualThreads, boolean reuseData, StubOauthProvider oauth)
+            throws Exception {
+        List<String> arguments = new ArrayList<>(List.of(args));
+        arguments.add("--spring.threads.virtual.enabled=" + virtualThreads);
+        arguments.add("--oauth.kakao.token.url=" + oauth.base().resolve(StubOauthProvider.TOKEN_PATH));
+        arguments.add("--oauth.kakao.userinfo.url=" + oauth.base().resolve(StubOauthProvider.USER_INFO_PATH));
+        if (reuseData) {
+            arguments.add("--loadtest.reuse-data=true");
+        }
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(YoziApplication.class)
+                .profiles("loadtest")
+                .run(arguments.toArray(String[]::new));
+        try {
+            LoadTestSettings settings = LoadTestSettings.from(context.getEnvironment());
+            oauth.latency(settings.oauthLatency());
+            LocalDate today = LocalDate.now();
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(context.getBean(DataSource.class));
+
+            // 카테고리는 local 프로필의 CategoryInitializer 가 넣으므로 loadtest 프로필에서는 직접 실행
+            new CategoryInitializer(context.getBean(CategoryRepository.class), context.getBean(CategoryRegistry.class)).run();
+            LedgerGenerator generator = new LedgerGenerator(context.getBean(DataSource.class),
+                    context.getBean(CategoryRegistry.class), settings, today);
+            if (settings.reuseData() && generator.existingTransactions() >= settings.transactions()) {
+                log.info("기존 데이터 사용 (거래 {}건)", generator.existingTransactions());
+            } else {
+                generator.generate();
+                long buckets = context.getBean(MonthlyRollupService.class).rebuild();
+                log.info("monthly_rollup 재계산: {}개 버킷", buckets);
+            }
+
+            List<LoadUser> users = mintTokens(jdbcTemplate, context.getBean(JwtService.class));
+            long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM transactions", Long.class);
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            log.info("{} 스레드 모드로 측정합니다", settings.threadMode());
+            LoadDriver driver = new LoadDriver(URI.create("http://127.0.0.1:" + port),
+                    users,
+                    LoadEndpoints.parseMix(settings.mix()),
+                    new LoadEndpoints.Context(today, settings.months(), CategoryType.values().length),
+                    settings);
+            Map<String, LoadDriver.EndpointStats> stats = driver.run();
+
+            LoadReport report = new LoadReport(settings, rows, stats);
+            Path file = report.write(settings.reportDir());
+            System.out.println(report.text());
+            log.info("결과 저장: {}", file.toAbsolutePath());
+            return report;
+        } finally {
+            context.close();
+        }
+    }
+
+    private static List<LoadUser> mintTokens(JdbcTemplate jdbcTemplate, JwtService jwtService) {
+        return jdbcTemplate.query("SELECT id, social_id, nickname FROM users ORDER BY id", (rs, i) -> {
+            User user = User.builder()
+                    .id(rs.getLong("id"))
+                    .socialId(rs.getString("social_id"))
+                    .socialType(SocialType.KAKAO)
+                    .nickname(rs.getString("nickname"))
+                    .build();
+            return new LoadUser(user.getId(), user.getSocialId(), jwtService.generateToken(user));
+        });
+    }
+
+    // 이전 실행의 H2 파일 (ledger.mv.db, ledger.trace.db)
+    private static void deleteDatabase(Path workDir) throws IOException {
+        if (!Files.isDirectory(workDir)) {
+            return;
+        }
+        try (var files = Files.list(workDir)) {
+            for (Path file : files.filter(f -> f.getFileName().toString().startsWith("ledger.")).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+}
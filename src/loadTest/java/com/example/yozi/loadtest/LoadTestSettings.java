@@ -0,0 +1,72 @@
+package com.example.yozi.loadtest;
+
+import org.springframework.core.env.Environment;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * loadtest.* 설정 (application-loadtest.properties, 시스템 프로퍼티로 덮어쓰기).
+ */
+public record LoadTestSettings(
+        long transactions,
+        int users,
+        int months,
+        long seed,
+        boolean reuseData,
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        String mixName,
+        String mix,
+        boolean virtualThreads,
+        Duration oauthLatency,
+        Path reportDir
+) {
+
+    static final long MIN_TRANSACTIONS = 1_000;
+    static final long MAX_TRANSACTIONS = 10_000_000;
+    private static final int MAX_AUTO_USERS = 20_000;
+
+    public static LoadTestSettings from(Environment env) {
+        long transactions = env.getRequiredProperty("loadtest.transactions", Long.class);
+        if (transactions < MIN_TRANSACTIONS || transactions > MAX_TRANSACTIONS) {
+            throw new IllegalArgumentException("loadtest.transactions 는 " + MIN_TRANSACTIONS + " ~ " + MAX_TRANSACTIONS
+                    + " 이어야 합니다: " + transactions);
+        }
+        int users = env.getProperty("loadtest.users", Integer.class, 0);
+        if (users <= 0) {
+            users = (int) Math.max(1, Math.min(transactions / 500, MAX_AUTO_USERS));
+        }
+        if (users > transactions) {
+            throw new IllegalArgumentException("사용자 수가 거래 수보다 많습니다: " + users + " > " + transactions);
+        }
+
+        // 프리셋 이름이면 loadtest.mix.<이름> 을, "이름:비중" 목록이면 그대로 사용
+        String mixName = env.getRequiredProperty("loadtest.mix").trim();
+        String mix = mixName.contains(":") ? mixName : env.getProperty("loadtest.mix." + mixName);
+        if (mix == null) {
+            throw new IllegalArgumentException("알 수 없는 loadtest.mix 프리셋: " + mixName);
+        }
+
+        return new LoadTestSettings(
+                transactions,
+                users,
+                env.getRequiredProperty("loadtest.months", Integer.class),
+                env.getRequiredProperty("loadtest.seed", Long.class),
+                env.getProperty("loadtest.reuse-data", Boolean.class, false),
+                env.getRequiredProperty("loadtest.concurrency", Integer.class),
+                env.getRequiredProperty("loadtest.warmup", Duration.class),
+                env.getRequiredProperty("loadtest.duration", Duration.class),
+                mixName.contains(":") ? "custom" : mixName,
+                mix,
+                env.getProperty("spring.threads.virtual.enabled", Boolean.class, false),
+                env.getRequiredProperty("loadtest.oauth-latency", Duration.class),
+                Path.of(env.getRequiredProperty("loadtest.report-dir")));
+    }
+
+    // 요청 처리 스레드 (spring.threads.virtual.enabled)
+    String threadMode() {
+        return virtualThreads ? "virtual" : "platform";
+    }
+}
@@ -0,0 +1,5 @@
+package com.example.yozi.loadtest;
+
+// 부하를 주는 가상 사용자 (JwtService 로 발급한 토큰, 로그인 부하에는 social_id 를 인가 코드로 사용)
+record LoadUser(long id, String socialId, String token) {
+}
@@ -0,0 +1,90 @@
+package com.example.yozi.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 로그인 부하용 가짜 카카오 OAuth 서버 (127.0.0.1, 임의 포트).
+ * 토큰 API 는 인가 코드를 그대로 access_token 으로 돌려주고, 사용자 정보 API 는 그 토큰을 카카오 id 로 돌려주므로
+ * 인가 코드에 생성된 사용자의 social_id 를 넣으면 기존 사용자로 로그인합니다.
+ * 두 API 모두 latency 만큼 늦게 응답해 외부 제공자를 기다리는 동안의 스레드 점유를 흉내 냅니다.
+ */
+final class StubOauthProvider implements AutoCloseable {
+
+    static final String TOKEN_PATH = "/oauth/token";
+    static final String USER_INFO_PATH = "/v2/user/me";
+
+    private final HttpServer server;
+    // 외부 서버 역할이므로 앱의 가상 스레드 스케줄러(캐리어 스레드)와 나눠 쓰지 않도록 플랫폼 스레드에서 응답
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private volatile long latencyMillis;
+
+    StubOauthProvider() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        server.createContext(TOKEN_PATH, this::token);
+        server.createContext(USER_INFO_PATH, this::userInfo);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    URI base() {
+        return URI.create("http://127.0.0.1:" + server.getAddress().getPort());
+    }
+
+    void latency(Duration latency) {
+        this.latencyMillis = latency.toMillis();
+    }
+
+    // 요청 본문: grant_type=...&code=<social_id>&...
+    private void token(HttpExchange exchange) throws IOException {
+        String code = "";
+        try (InputStream body = exchange.getRequestBody()) {
+            for (String pair : new String(body.readAllBytes(), StandardCharsets.UTF_8).split("&")) {
+                if (pair.startsWith("code=")) {
+                    code = URLDecoder.decode(pair.substring("code=".length()), StandardCharsets.UTF_8);
+                }
+            }
+        }
+        respond(exchange, "{\"access_token\":\"" + code + "\",\"token_type\":\"bearer\"}");
+    }
+
+    private void userInfo(HttpExchange exchange) throws IOException {
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        String socialId = authorization != null && authorization.startsWith("Bearer ")
+                ? authorization.substring("Bearer ".length()) : "";
+        respond(exchange, "{\"id\":\"" + socialId + "\",\"properties\":{\"nickname\":\"부하테스트\"}}");
+    }
+
+    private void respond(HttpExchange exchange, String json) throws IOException {
+        try {
+            if (latencyMillis > 0) {
+                Thread.sleep(latencyMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+}
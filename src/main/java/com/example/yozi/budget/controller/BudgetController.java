@@ -1,20 +1,29 @@
 package com.example.yozi.budget.controller;
 
 import com.example.yozi.budget.dto.*;
+import com.example.yozi.budget.service.BudgetDashboardService;
 import com.example.yozi.budget.service.BudgetService;
-import com.example.yozi.jwt.UserPrincipal;
+import com.example.yozi.jwt.CurrentUser;
+import com.example.yozi.transaction.entity.enums.TransactionType;
 import com.example.yozi.user.entity.User;
-import com.example.yozi.user.service.UserService;
+import com.example.yozi.user.service.DataVersionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
 
 @Tag(name = "Budget API", description = "예산 관련 기능 API (등록, 조회, 요약 등)")
 @RestController
@@ -22,32 +31,42 @@ import java.util.List;
 @RequestMapping("/api/budgets")
 public class BudgetController {
 
+    // 사용자별 데이터이므로 공유 캐시 금지, 브라우저는 매번 ETag 로 재검증
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final BudgetService budgetService;
-    private final UserService userService;
+    private final BudgetDashboardService budgetDashboardService;
+    private final DataVersionService dataVersionService;
 
     @Operation(summary = "예산 설정", description = "사용자가 특정 월에 대해 카테고리별 예산을 설정합니다.")
     @PostMapping
     public ResponseEntity<Void> setBudget(
-            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @CurrentUser User user,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
             @RequestBody List<BudgetRequestDto> budgets) {
 
-        User user = userService.findById(userPrincipal.getId())
-                .orElseThrow(() -> new RuntimeException("User not found with id: " + userPrincipal.getId()));
-
         budgetService.setBudget(user, date, budgets);
         return ResponseEntity.ok().build();
     }
 
+    @Operation(summary = "기간 예산 설정", description = "from ~ to 에 포함된 모든 월에 같은 카테고리별 예산을 설정합니다. (최대 36개월)")
+    @PostMapping("/range")
+    public ResponseEntity<Void> setBudgetRange(
+            @CurrentUser User user,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestBody List<BudgetRequestDto> budgets) {
+
+        budgetService.setBudgetRange(user, from, to, budgets);
+        return ResponseEntity.ok().build();
+    }
+
     @Operation(summary = "예산 조회", description = "사용자의 특정 월 예산 내역을 조회합니다.")
     @GetMapping
     public ResponseEntity<List<BudgetResponseDto>> getBudget(
-            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @CurrentUser User user,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
 
-        User user = userService.findById(userPrincipal.getId())
-                .orElseThrow(() -> new RuntimeException("User not found with id: " + userPrincipal.getId()));
-
         List<BudgetResponseDto> budgets = budgetService.getBudget(user, date);
         return ResponseEntity.ok(budgets);
     }
@@ -55,12 +74,9 @@ public class BudgetController {
     @Operation(summary = "총 예산 조회", description = "사용자의 특정 월 총 예산 금액을 반환합니다.")
     @GetMapping("/total")
     public ResponseEntity<Integer> getTotalBudget(
-            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @CurrentUser User user,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
 
-        User user = userService.findById(userPrincipal.getId())
-                .orElseThrow(() -> new RuntimeException("User not found with id: " + userPrincipal.getId()));
-
         int totalBudget = budgetService.calculateTotalBudget(user, date);
         return ResponseEntity.ok(totalBudget);
     }
@@ -68,12 +84,9 @@ public class BudgetController {
     @Operation(summary = "총 지출 금액 조회", description = "특정 월의 총 지출 금액을 조회합니다.")
     @GetMapping("/spent")
     public ResponseEntity<Integer> getSpentAmount(
-            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @CurrentUser User user,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
 
-        User user = userService.findById(userPrincipal.getId())
-                .orElseThrow(() -> new RuntimeException("User not found with id: " + userPrincipal.getId()));
-
         int spentAmount = budgetService.calculateExpenseAmount(user, date);
         return ResponseEntity.ok(spentAmount);
     }
@@ -81,12 +94,9 @@ public class BudgetController {
     @Operation(summary = "총 수입 금액 조회", description = "특정 월의 총 수입 금액을 조회합니다.")
     @GetMapping("/income")
     public ResponseEntity<Integer> getIncomeAmount(
-            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @CurrentUser User user,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
 
-        User user = userService.findById(userPrincipal.getId())
-                .orElseThrow(() -> new RuntimeException("User not found with id: " + userPrincipal.getId()));
-
         int incomeAmount = budgetService.calculateIncomeAmount(user, date);
         return ResponseEntity.ok(incomeAmount);
     }
@@ -94,12 +104,9 @@ public class BudgetController {
     @Operation(summary = "남은 예산 금액 조회", description = "특정 월의 남은 예산 금액을 조회합니다.")
     @GetMapping("/remaining")
     public ResponseEntity<Integer> getRemainingBudget(
-            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @CurrentUser User user,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
 
-        User user = userService.findById(userPrincipal.getId())
-                .orElseThrow(() -> new RuntimeException("User not found with id: " + userPrincipal.getId()));
-
         int remaining = budgetService.calculateRemainingBudget(user, date);
         return ResponseEntity.ok(remaining);
     }
@@ -107,12 +114,9 @@ public class BudgetController {
     @Operation(summary = "초과 예산 금액 조회", description = "특정 월의 초과 예산 금액을 조회합니다.")
     @GetMapping("/exceeded")
     public ResponseEntity<Integer> getExceededBudget(
-            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @CurrentUser User user,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
 
-        User user = userService.findById(userPrincipal.getId())
-                .orElseThrow(() -> new RuntimeException("User not found with id: " + userPrincipal.getId()));
-
         int exceeded = budgetService.calculateExceededBudget(user, date);
         return ResponseEntity.ok(exceeded);
     }
@@ -120,51 +124,157 @@ public class BudgetController {
     @Operation(summary = "예산 페이지", description = "예산 페이지 로드")
     @GetMapping("/summary")
     public ResponseEntity<BudgetSummaryDto> getBudgetSummary(
-            @AuthenticationPrincipal UserPrincipal userPrincipal,
-            @RequestParam("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
-
-        User user = userService.findById(userPrincipal.getId())
-                .orElseThrow(() -> new RuntimeException("User not found with id: " + userPrincipal.getId()));
+            @CurrentUser User user,
+            @RequestParam("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            WebRequest request) {
 
-        BudgetSummaryDto summary = budgetService.getBudgetSummary(user, date);
-        return ResponseEntity.ok(summary);
+        return conditional(user, YearMonth.from(date), request, () -> budgetService.getBudgetSummary(user, date));
     }
 
     @Operation(summary = "메인 요약 정보 조회", description = "현재 달 기준 사용자의 메인 화면 요약 정보를 조회합니다.")
     @GetMapping("/main/summary")
     public ResponseEntity<MainSummaryDto> getMainSummary(
-            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+            @CurrentUser User user,
+            WebRequest request) {
 
-        User user = userService.findById(userPrincipal.getId())
-                .orElseThrow(() -> new RuntimeException("User not found with id: " + userPrincipal.getId()));
+        return conditional(user, LocalDate.now(), request, () -> budgetService.getMainSummary(user));
+    }
 
-        MainSummaryDto summary = budgetService.getMainSummary(user);
-        return ResponseEntity.ok(summary);
+    @Operation(summary = "메인 대시보드 조회",
+            description = "총 예산, 지출, 수입, 남은/초과 예산, 일별 수입/지출, 남은 일정을 한 번에 조회합니다. 시간 안에 끝나지 않은 항목은 unavailable 에 표시됩니다.")
+    @GetMapping("/dashboard")
+    public ResponseEntity<DashboardDto> getDashboard(
+            @CurrentUser User user,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            WebRequest request) {
+
+        // 남은 일정은 오늘 날짜에 따라 달라지므로 ETag 에 포함
+        String etag = dataEtag(user, dataVersion(user, request), YearMonth.from(date) + "@" + LocalDate.now());
+        if (request.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+        DashboardDto dashboard = budgetDashboardService.getDashboard(user, date);
+        // 일부가 빠진 응답은 브라우저가 저장하지 않도록 (다음 요청에서 다시 계산).
+        // 레플리카를 쓰면 항목마다 다른 커넥션에서 읽어 본문에 맞는 버전이 하나로 정해지지 않으므로 저장하지 않음
+        if (!dashboard.unavailable().isEmpty() || dataVersionService.readsFromReplicas()) {
+            return ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(dashboard);
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(dashboard);
     }
 
     @Operation(summary = "일별 수입/지출 조회", description = "특정 월의 날짜별 수입/지출 금액을 조회합니다.")
     @GetMapping("/main/daily-amounts")
     public ResponseEntity<List<DailyAmountDto>> getDailyAmounts(
-            @AuthenticationPrincipal UserPrincipal userPrincipal,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+            @CurrentUser User user,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            WebRequest request) {
 
-        User user = userService.findById(userPrincipal.getId())
-                .orElseThrow(() -> new RuntimeException("User not found with id: " + userPrincipal.getId()));
+        return conditional(user, YearMonth.from(date), request, () -> budgetService.getDailyIncomeExpense(user, date));
+    }
 
-        List<DailyAmountDto> dailyAmounts = budgetService.getDailyIncomeExpense(user, date);
-        return ResponseEntity.ok(dailyAmounts);
+    @Operation(summary = "기간별 수입/지출 조회",
+            description = "from ~ to 의 수입/지출을 day, week(월요일 시작), month, year 단위 배열로 반환합니다. 거래가 없는 구간은 0 입니다. (최대 400구간)")
+    @GetMapping("/calendar")
+    public ResponseEntity<AmountCalendarDto> getAmountCalendar(
+            @CurrentUser User user,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "day") String granularity,
+            WebRequest request) {
+
+        AmountCalendarDto.Granularity unit = AmountCalendarDto.Granularity.from(granularity);
+        return conditional(user, from + "~" + to + ":" + unit, request,
+                () -> budgetService.getAmountCalendar(user, from, to, unit));
     }
 
     @Operation(summary = "월별 지출 분석 조회",
             description = "현재 달의 총 지출, 평균 하루 지출, 전월 및 전전월 총 지출 금액과 이번달 거래 내역을 반환합니다.")
     @GetMapping("/analysis/monthly")
     public ResponseEntity<MonthlyAnalysisDto> getMonthlyAnalysis(
-            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+            @CurrentUser User user,
+            WebRequest request) {
+
+        return conditional(user, LocalDate.now(), request, () -> budgetService.getMonthlyAnalysis(user));
+    }
+
+    @Operation(summary = "월별 추이 조회",
+            description = "이번 달까지 months 개월의 수입/지출 합계를 반환합니다. type(income/expense) 으로 한쪽만, byCategory=true 면 카테고리별로도 조회합니다. (최대 120개월)")
+    @GetMapping("/analysis/trend")
+    public ResponseEntity<MonthlyTrendDto> getMonthlyTrend(
+            @CurrentUser User user,
+            @RequestParam(defaultValue = "12") int months,
+            @RequestParam(required = false) String type,
+            @RequestParam(defaultValue = "false") boolean byCategory,
+            WebRequest request) {
+
+        TransactionType transactionType = type == null || type.isBlank() ? null : parseType(type);
+        YearMonth end = YearMonth.now();
+        return conditional(user, end + ":" + months + ":" + transactionType + ":" + byCategory, request,
+                () -> budgetService.getMonthlyTrend(user, end, months, transactionType, byCategory));
+    }
+
+    @Operation(summary = "월별 분석 거래 내역 조회",
+            description = "해당 월(기본: 이번 달)의 거래 내역을 최신순으로 조회합니다. 응답의 next 를 cursor 로 넘기면 다음 페이지를 조회합니다.")
+    @GetMapping("/analysis/monthly/transactions")
+    public ResponseEntity<TransactionDetailPageDto> getMonthlyTransactions(
+            @CurrentUser User user,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+
+        YearMonth month = date != null ? YearMonth.from(date) : YearMonth.now();
+        return ResponseEntity.ok(budgetService.getMonthlyTransactions(user, month, cursor, limit));
+    }
+
+    @Operation(summary = "카테고리별 예산 대비 지출 조회",
+            description = "해당 월의 카테고리별 예산, 지출, 남은 금액, 예산 사용률(%), 전체 지출 중 비중(%)을 조회합니다.")
+    @GetMapping("/report/categories")
+    public ResponseEntity<CategoryBudgetReportDto> getCategoryReport(
+            @CurrentUser User user,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            WebRequest request) {
 
-        User user = userService.findById(userPrincipal.getId())
-                .orElseThrow(() -> new RuntimeException("User not found with id: " + userPrincipal.getId()));
+        YearMonth month = YearMonth.from(date);
+        return conditional(user, "categories:" + month, request, () -> budgetService.getCategoryReport(user, month));
+    }
+
+    /**
+     * 사용자 데이터 버전 + 조회 기준(월 또는 오늘 날짜)으로 ETag 를 만들고,
+     * If-None-Match 가 일치하면 본문을 계산하지 않고 304 로 응답합니다.
+     * 응답 ETag 의 버전은 본문을 읽은 커넥션 기준이므로 ({@link DataVersionService#read}),
+     * 계산 중 쓰기가 끼어들거나 레플리카가 늦어도 다음 요청에서 새 ETag 를 받습니다.
+     */
+    private <T> ResponseEntity<T> conditional(User user, Object key, WebRequest request, Supplier<T> body) {
+        long version = dataVersion(user, request);
+        String etag = dataEtag(user, version, key);
+        if (request.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+        DataVersionService.Versioned<T> read = dataVersionService.read(user.getId(), version, body);
+        return ResponseEntity.ok().eTag(dataEtag(user, read.version(), key)).cacheControl(REVALIDATE).body(read.value());
+    }
+
+    private TransactionType parseType(String type) {
+        try {
+            return TransactionType.valueOf(type.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "유형은 income 또는 expense 여야 합니다: " + type);
+        }
+    }
+
+    // 304 는 클라이언트 본문이 최신이라고 확인해 주는 응답이므로 다른 인스턴스의 쓰기까지 보도록 DB 에서 읽음.
+    // If-None-Match 가 없으면 ETag 만 만들면 되므로 캐시 값 (오래됐다면 다음 요청에서 불일치로 다시 계산)
+    private long dataVersion(User user, WebRequest request) {
+        return request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                ? dataVersionService.fresh(user.getId())
+                : dataVersionService.current(user.getId());
+    }
+
+    private String dataEtag(User user, long version, Object key) {
+        return "\"" + user.getId() + "-" + version + "-" + key + "\"";
+    }
 
-        MonthlyAnalysisDto dto = budgetService.getMonthlyAnalysis(user);
-        return ResponseEntity.ok(dto);
+    private <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
     }
 }
@@ -0,0 +1,55 @@
+package com.example.yozi.budget.dto;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * 기간별 수입/지출 (히트맵, 막대 그래프용).
+ * income[i], expense[i] 는 start 부터 i 번째 구간 (DAY: i일 후, WEEK: i주 후 월요일부터, MONTH: i달 후, YEAR: i년 후) 의 합계이며
+ * 거래가 없는 구간도 0 으로 채워져 있습니다.
+ */
+public record AmountCalendarDto(
+        Granularity granularity,
+        LocalDate start,
+        long[] income,
+        long[] expense
+) {
+
+    public enum Granularity {
+        DAY, WEEK, MONTH, YEAR;
+
+        // 구간의 첫날로 맞춤 (WEEK 는 월요일 시작)
+        public LocalDate align(LocalDate date) {
+            return switch (this) {
+                case DAY -> date;
+                case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                case MONTH -> date.withDayOfMonth(1);
+                case YEAR -> date.withDayOfYear(1);
+            };
+        }
+
+        // align 된 start 기준으로 date 가 속한 구간 번호
+        public int index(LocalDate start, LocalDate date) {
+            return (int) switch (this) {
+                case DAY -> ChronoUnit.DAYS.between(start, date);
+                case WEEK -> ChronoUnit.DAYS.between(start, date) / 7;
+                case MONTH -> ChronoUnit.MONTHS.between(start, date.withDayOfMonth(1));
+                case YEAR -> date.getYear() - start.getYear();
+            };
+        }
+
+        public static Granularity from(String value) {
+            for (Granularity granularity : values()) {
+                if (granularity.name().equalsIgnoreCase(value)) {
+                    return granularity;
+                }
+            }
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "지원하지 않는 집계 단위: " + value);
+        }
+    }
+}
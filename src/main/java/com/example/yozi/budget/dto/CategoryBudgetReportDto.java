@@ -0,0 +1,28 @@
+package com.example.yozi.budget.dto;
+
+import com.example.yozi.category.entity.enums.CategoryType;
+
+import java.util.List;
+
+/**
+ * 월별 카테고리 예산 대비 지출.
+ * percentUsed 는 예산이 없으면 null, share 는 총 지출 중 비중(%) 이며 둘 다 소수 첫째 자리까지입니다.
+ */
+public record CategoryBudgetReportDto(
+        String month,
+        long totalBudget,
+        long totalSpent,
+        List<Item> categories
+) {
+
+    // categoryType 이 null 이면 카테고리 없는 지출
+    public record Item(
+            CategoryType categoryType,
+            String displayName,
+            long budget,
+            long spent,
+            long remaining,
+            Double percentUsed,
+            double share
+    ) {}
+}
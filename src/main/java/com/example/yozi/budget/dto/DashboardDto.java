@@ -0,0 +1,20 @@
+package com.example.yozi.budget.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 메인 화면 한 번에 조회 (/total, /spent, /income, /remaining, /exceeded, /main/summary, /main/daily-amounts 통합).
+ * 제한 시간 안에 끝나지 않은 부분은 null 이고 이름이 unavailable 에 담깁니다 (summary, dailyAmounts, futureSchedules).
+ */
+public record DashboardDto(
+        LocalDate date,
+        Integer totalBudget,
+        Integer spent,
+        Integer income,
+        Integer remaining,
+        Integer exceeded,
+        List<DailyAmountDto> dailyAmounts,
+        List<FinancialScheduleDto> futureSchedules,
+        List<String> unavailable
+) {}
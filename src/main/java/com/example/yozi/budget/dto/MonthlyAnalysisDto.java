@@ -19,7 +19,8 @@ public class MonthlyAnalysisDto {
     private int previousMonthTotal;
     private int twoMonthsAgoTotal;
 
-    private List<TransactionDetail> transactions;
+    private List<TransactionDetail> transactions; // 첫 페이지
+    private String transactionsNext; // 다음 페이지 커서 (/analysis/monthly/transactions), 없으면 null
 
     // 소비 습관 점수 관련 필드 추가
     private int habitScore;
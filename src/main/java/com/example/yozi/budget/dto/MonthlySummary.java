@@ -0,0 +1,18 @@
+package com.example.yozi.budget.dto;
+
+// 한 달의 예산 총액과 수입/지출 합계
+public record MonthlySummary(
+        int budget,
+        int income,
+        int expense
+) {
+    public static final MonthlySummary EMPTY = new MonthlySummary(0, 0, 0);
+
+    public int remaining() {
+        return Math.max(budget - expense, 0);
+    }
+
+    public int exceeded() {
+        return Math.max(expense - budget, 0);
+    }
+}
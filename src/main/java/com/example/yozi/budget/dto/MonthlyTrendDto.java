@@ -0,0 +1,22 @@
+package com.example.yozi.budget.dto;
+
+import com.example.yozi.category.entity.enums.CategoryType;
+import com.example.yozi.transaction.entity.enums.TransactionType;
+
+import java.util.List;
+
+/**
+ * 월별 수입/지출 추이. 배열의 i 번째 값은 months[i] ("yyyy-MM", 오래된 달부터) 의 합계입니다.
+ * type 으로 한쪽만 조회하면 다른 쪽은 null, byCategory 가 아니면 categories 는 빈 목록입니다.
+ */
+public record MonthlyTrendDto(
+        List<String> months,
+        long[] income,
+        long[] expense,
+        List<CategorySeries> categories
+) {
+
+    // categoryType 이 null 이면 카테고리 없는 거래
+    public record CategorySeries(CategoryType categoryType, String displayName, TransactionType type, long[] amounts) {
+    }
+}
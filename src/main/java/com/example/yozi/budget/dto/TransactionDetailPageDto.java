@@ -0,0 +1,9 @@
+package com.example.yozi.budget.dto;
+
+import java.util.List;
+
+// 월별 분석의 거래 내역 페이지. next 가 null 이면 마지막 페이지
+public record TransactionDetailPageDto(
+        List<MonthlyAnalysisDto.TransactionDetail> items,
+        String next
+) {}
@@ -10,6 +10,8 @@ import lombok.Setter;
 import java.time.LocalDate;
 
 @Entity
+@Table(name = "budget", uniqueConstraints = @UniqueConstraint(name = "uk_budget_user_month_category",
+        columnNames = {"user_id", "budget_month", "category_id"}))
 @Getter @Setter
 @NoArgsConstructor
 public class Budget {
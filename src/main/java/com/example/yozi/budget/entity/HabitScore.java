@@ -0,0 +1,58 @@
+package com.example.yozi.budget.entity;
+
+import com.example.yozi.budget.service.HabitScoreCalculator;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 사용자·월별 소비 습관 점수 (HabitScoreBatch 가 JDBC 로 upsert, 여기서는 조회만)
+@Entity
+@Table(name = "habit_score",
+        uniqueConstraints = @UniqueConstraint(name = "uk_habit_score_user_month",
+                columnNames = {"user_id", "score_month"}))
+@Getter
+@NoArgsConstructor
+public class HabitScore {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "score_month", nullable = false)
+    private int scoreMonth; // yyyyMM
+
+    @Column(nullable = false)
+    private int score;
+
+    @Column(name = "budget_score", nullable = false)
+    private int budgetScore;
+
+    @Column(name = "balance_score", nullable = false)
+    private int balanceScore;
+
+    @Column(name = "record_score", nullable = false)
+    private int recordScore;
+
+    @Column(name = "stability_score", nullable = false)
+    private int stabilityScore;
+
+    @Column(name = "recorded_days", nullable = false)
+    private int recordedDays;
+
+    @Column(name = "as_of", nullable = false)
+    private LocalDate asOf; // 이 날짜까지의 거래로 계산
+
+    @Column(name = "computed_at", nullable = false)
+    private LocalDateTime computedAt;
+
+    public HabitScoreCalculator.Result toResult() {
+        return new HabitScoreCalculator.Result(score, budgetScore, balanceScore, recordScore, stabilityScore,
+                recordedDays);
+    }
+}
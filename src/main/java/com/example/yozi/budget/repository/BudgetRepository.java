@@ -11,7 +11,7 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
-public interface BudgetRepository extends JpaRepository<Budget, Long> {
+public interface BudgetRepository extends JpaRepository<Budget, Long>, BudgetRepositoryCustom {
 
     // 해당 월 예산 총합 계산, null 반환 가능성 대비 Long 사용
     @Query("SELECT COALESCE(SUM(b.amount), 0) FROM Budget b WHERE b.user = :user AND b.budgetMonth = :month")
@@ -23,4 +23,37 @@ public interface BudgetRepository extends JpaRepository<Budget, Long> {
     // 특정 사용자와 월에 해당하는 모든 예산 조회
     List<Budget> findByUserAndBudgetMonth(User user, LocalDate budgetMonth);
 
+    // 여러 달 예산 일괄 조회 (setBudget 변경분 계산용)
+    List<Budget> findByUserAndBudgetMonthBetween(User user, LocalDate from, LocalDate to);
+
+    // 여러 달의 예산 총액과 수입/지출 합계를 한 번에 조회 (budget + monthly_rollup).
+    // month 는 H2 예약어라 별칭은 monthKey
+    @Query(value = "SELECT s.monthKey AS monthKey, SUM(s.budget) AS budget, SUM(s.income) AS income, SUM(s.expense) AS expense " +
+            "FROM (" +
+            "SELECT YEAR(b.budget_month) * 100 + MONTH(b.budget_month) AS monthKey, b.amount AS budget, 0 AS income, 0 AS expense " +
+            "FROM budget b WHERE b.user_id = :userId AND b.budget_month IN (:budgetMonths) " +
+            "UNION ALL " +
+            "SELECT r.rollup_month AS monthKey, 0 AS budget, " +
+            "CASE WHEN r.type = 'INCOME' THEN r.amount ELSE 0 END AS income, " +
+            "CASE WHEN r.type = 'EXPENSE' THEN r.amount ELSE 0 END AS expense " +
+            "FROM monthly_rollup r WHERE r.user_id = :userId AND r.rollup_month IN (:rollupMonths)" +
+            ") s GROUP BY s.monthKey", nativeQuery = true)
+    List<MonthlySummaryRow> summarizeMonths(@Param("userId") Long userId,
+                                            @Param("budgetMonths") List<LocalDate> budgetMonths,
+                                            @Param("rollupMonths") List<Integer> rollupMonths);
+
+    // 카테고리별 예산과 지출을 한 번에 (category LEFT JOIN budget LEFT JOIN monthly_rollup) + 카테고리 없는 지출 1행
+    @Query(value = "SELECT c.id AS categoryId, MAX(b.amount) AS budget, SUM(r.amount) AS spent " +
+            "FROM category c " +
+            "LEFT JOIN budget b ON b.category_id = c.id AND b.user_id = :userId AND b.budget_month = :budgetMonth " +
+            "LEFT JOIN monthly_rollup r ON r.category_id = c.id AND r.user_id = :userId " +
+            "AND r.rollup_month = :rollupMonth AND r.type = 'EXPENSE' " +
+            "GROUP BY c.id " +
+            "UNION ALL " +
+            "SELECT 0 AS categoryId, NULL AS budget, SUM(r.amount) AS spent FROM monthly_rollup r " +
+            "WHERE r.user_id = :userId AND r.rollup_month = :rollupMonth AND r.type = 'EXPENSE' " +
+            "AND r.category_id NOT IN (SELECT id FROM category)", nativeQuery = true)
+    List<CategoryReportRow> reportByCategory(@Param("userId") Long userId,
+                                             @Param("budgetMonth") LocalDate budgetMonth,
+                                             @Param("rollupMonth") int rollupMonth);
 }
@@ -0,0 +1,12 @@
+package com.example.yozi.budget.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface BudgetRepositoryCustom {
+
+    record BudgetUpsert(Long userId, Long categoryId, LocalDate budgetMonth, int amount) {}
+
+    // (user, category, month) 유니크 키 기준 배치 upsert
+    void upsertAll(List<BudgetUpsert> rows);
+}
@@ -0,0 +1,29 @@
+package com.example.yozi.budget.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class BudgetRepositoryCustomImpl implements BudgetRepositoryCustom {
+
+    private static final String UPSERT_SQL = "INSERT INTO budget (user_id, category_id, budget_month, amount) " +
+            "VALUES (?, ?, ?, ?) ON DUPLICATE KEY UPDATE amount = VALUES(amount)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void upsertAll(List<BudgetUpsert> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, row.userId());
+            ps.setLong(2, row.categoryId());
+            ps.setDate(3, Date.valueOf(row.budgetMonth()));
+            ps.setInt(4, row.amount());
+        });
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.yozi.budget.repository;
+
+// BudgetRepository.reportByCategory 결과 행 (카테고리별 예산/지출, categoryId 0 = 카테고리 없는 지출)
+public interface CategoryReportRow {
+    Number getCategoryId();
+    Number getBudget();
+    Number getSpent();
+}
@@ -0,0 +1,12 @@
+package com.example.yozi.budget.repository;
+
+import com.example.yozi.budget.entity.HabitScore;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface HabitScoreRepository extends JpaRepository<HabitScore, Long> {
+
+    List<HabitScore> findByUserIdAndScoreMonthIn(Long userId, Collection<Integer> scoreMonths);
+}
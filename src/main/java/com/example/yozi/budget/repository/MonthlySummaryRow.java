@@ -0,0 +1,9 @@
+package com.example.yozi.budget.repository;
+
+// BudgetRepository.summarizeMonths 결과 행 (yyyyMM 별 예산/수입/지출 합계)
+public interface MonthlySummaryRow {
+    Number getMonthKey();
+    Number getBudget();
+    Number getIncome();
+    Number getExpense();
+}
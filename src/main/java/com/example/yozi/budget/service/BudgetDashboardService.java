@@ -0,0 +1,112 @@
+package com.example.yozi.budget.service;
+
+import com.example.yozi.budget.dto.DailyAmountDto;
+import com.example.yozi.budget.dto.DashboardDto;
+import com.example.yozi.budget.dto.FinancialScheduleDto;
+import com.example.yozi.budget.dto.MonthlySummary;
+import com.example.yozi.user.entity.User;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 메인 화면 데이터를 한 번에 조회합니다.
+ * <ul>
+ *     <li>summary: 예산/수입/지출을 쿼리 한 번으로 읽고 남은 예산·초과 예산도 여기서 계산 (기존 API 는 매번 재계산)</li>
+ *     <li>dailyAmounts, futureSchedules: summary 와 독립적이므로 dashboardExecutor 에서 동시에 실행</li>
+ * </ul>
+ * 각 부분은 yozi.dashboard.part-timeout 안에 끝나야 하며, 늦거나 실패한 부분은 비워서 나머지만 응답합니다.
+ * 실행기가 가득 차 거절된 부분도 같은 방식으로 비웁니다. 부분 조회는 같은 시간(초 단위 올림)의 트랜잭션 제한 시간으로
+ * 실행되므로 응답이 포기한 쿼리는 드라이버가 취소해 커넥션을 돌려줍니다.
+ */
+@Slf4j
+@Service
+public class BudgetDashboardService {
+
+    private final BudgetService budgetService;
+    private final BudgetSummaryEngine budgetSummaryEngine;
+    private final TaskExecutor dashboardExecutor;
+    private final TransactionTemplate partTransaction;
+    private final long partTimeoutMillis;
+
+    public BudgetDashboardService(BudgetService budgetService,
+                                  BudgetSummaryEngine budgetSummaryEngine,
+                                  @Qualifier("dashboardExecutor") TaskExecutor dashboardExecutor,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${yozi.dashboard.part-timeout:2s}") Duration partTimeout) {
+        this.budgetService = budgetService;
+        this.budgetSummaryEngine = budgetSummaryEngine;
+        this.dashboardExecutor = dashboardExecutor;
+        this.partTimeoutMillis = partTimeout.toMillis();
+        this.partTransaction = new TransactionTemplate(transactionManager);
+        this.partTransaction.setReadOnly(true);
+        this.partTransaction.setTimeout((int) Math.max(1, (partTimeoutMillis + 999) / 1000));
+    }
+
+    public DashboardDto getDashboard(User user, LocalDate date) {
+        List<String> unavailable = Collections.synchronizedList(new ArrayList<>());
+
+        CompletableFuture<MonthlySummary> summary = part("summary", unavailable,
+                () -> budgetSummaryEngine.summarize(user, YearMonth.from(date)));
+        CompletableFuture<List<DailyAmountDto>> dailyAmounts = part("dailyAmounts", unavailable,
+                () -> budgetService.getDailyIncomeExpense(user, date));
+        CompletableFuture<List<FinancialScheduleDto>> futureSchedules = part("futureSchedules", unavailable,
+                () -> budgetService.getFutureFinancialSchedules(user, date));
+
+        CompletableFuture.allOf(summary, dailyAmounts, futureSchedules).join();
+
+        MonthlySummary s = summary.join();
+        return new DashboardDto(
+                date,
+                s != null ? s.budget() : null,
+                s != null ? s.expense() : null,
+                s != null ? s.income() : null,
+                s != null ? s.remaining() : null,
+                s != null ? s.exceeded() : null,
+                dailyAmounts.join(),
+                futureSchedules.join(),
+                List.copyOf(unavailable));
+    }
+
+    // 제출 전에 제한 시간을 걸어 두므로 대기열에서 기다린 시간도 포함되고, 거절되면 요청 스레드에서 실행하지 않고 바로 비움
+    private <T> CompletableFuture<T> part(String name, List<String> unavailable, Supplier<T> query) {
+        CompletableFuture<T> result = new CompletableFuture<T>()
+                .orTimeout(partTimeoutMillis, TimeUnit.MILLISECONDS);
+        CompletableFuture<T> answer = result.exceptionally(e -> {
+            log.warn("대시보드 {} 조회 실패: {}", name, e.toString());
+            unavailable.add(name);
+            return null;
+        });
+        try {
+            dashboardExecutor.execute(() -> {
+                // 대기열에 있는 동안 제한 시간이 지났으면 커넥션을 잡지 않음
+                if (result.isDone()) {
+                    return;
+                }
+                try {
+                    result.complete(partTransaction.execute(status -> query.get()));
+                } catch (RuntimeException e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+        }
+        return answer;
+    }
+}
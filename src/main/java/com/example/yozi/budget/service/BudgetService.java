@@ -3,141 +3,208 @@ package com.example.yozi.budget.service;
 import com.example.yozi.budget.dto.*;
 import com.example.yozi.budget.entity.Budget;
 import com.example.yozi.budget.repository.BudgetRepository;
+import com.example.yozi.budget.repository.BudgetRepositoryCustom;
+import com.example.yozi.budget.repository.CategoryReportRow;
 import com.example.yozi.category.entity.Category;
-import com.example.yozi.category.repository.CategoryRepository;
-import com.example.yozi.transaction.entity.Transaction;
+import com.example.yozi.category.service.CategoryRegistry;
+import com.example.yozi.transaction.dto.TransactionCursor;
+import com.example.yozi.transaction.entity.MonthlyRollup;
 import com.example.yozi.transaction.entity.enums.TransactionType;
+import com.example.yozi.transaction.repository.DailyTypeSumRow;
+import com.example.yozi.transaction.repository.MonthlyRollupRepository;
+import com.example.yozi.transaction.repository.MonthlyTrendRow;
+import com.example.yozi.transaction.repository.TransactionDetailRow;
 import com.example.yozi.transaction.repository.TransactionRepository;
 import com.example.yozi.user.entity.User;
+import com.example.yozi.user.service.DataVersionService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Timed(value = "yozi.service", histogram = true)
 public class BudgetService {
 
+    private static final int MAX_BUDGET_RANGE_MONTHS = 36;
+    private static final int MAX_CALENDAR_BUCKETS = 400; // 일 단위 1년 히트맵 + 여유
+    private static final int MAX_TREND_MONTHS = 120;
+    private static final int DEFAULT_DETAIL_PAGE_SIZE = 50;
+    private static final int MAX_DETAIL_PAGE_SIZE = 200;
+
     private final BudgetRepository budgetRepository;
-    private final CategoryRepository categoryRepository;
+    private final CategoryRegistry categoryRegistry;
     private final TransactionRepository transactionRepository;
+    private final MonthlyRollupRepository monthlyRollupRepository;
+    private final BudgetSummaryEngine budgetSummaryEngine;
+    private final DataVersionService dataVersionService;
+    private final HabitScoreService habitScoreService;
 
+    @Transactional
     public void setBudget(User user, LocalDate date, List<BudgetRequestDto> budgets) {
-        LocalDate budgetMonth = date.withDayOfMonth(1);
+        YearMonth month = YearMonth.from(date);
+        upsertBudgets(user, month, month, budgets);
+    }
 
+    // from ~ to 의 모든 달에 같은 카테고리별 예산을 설정 (예: 1년치)
+    @Transactional
+    public void setBudgetRange(User user, LocalDate from, LocalDate to, List<BudgetRequestDto> budgets) {
+        YearMonth start = YearMonth.from(from);
+        YearMonth end = YearMonth.from(to);
+        if (end.isBefore(start) || start.plusMonths(MAX_BUDGET_RANGE_MONTHS - 1).isBefore(end)) {
+            throw new IllegalArgumentException("예산 기간은 1~" + MAX_BUDGET_RANGE_MONTHS + "개월이어야 합니다: " + from + " ~ " + to);
+        }
+        upsertBudgets(user, start, end, budgets);
+    }
+
+    // 기존 예산을 한 번에 읽어 바뀐 항목만 배치 upsert (조회 1회 + 배치 1회)
+    private void upsertBudgets(User user, YearMonth from, YearMonth to, List<BudgetRequestDto> budgets) {
+        Map<Long, Integer> amounts = new LinkedHashMap<>();
         for (BudgetRequestDto dto : budgets) {
-            Category category = categoryRepository.findByType(dto.categoryType())
+            Category category = categoryRegistry.findByType(dto.categoryType())
                     .orElseThrow(() -> new RuntimeException("Invalid category: " + dto.categoryType()));
+            amounts.put(category.getId(), dto.amount());
+        }
 
-            Budget budget = budgetRepository.findByUserAndCategoryAndBudgetMonth(user, category, budgetMonth)
-                    .orElse(new Budget());
-
-            budget.setUser(user);
-            budget.setCategory(category);
-            budget.setAmount(dto.amount());
-            budget.setBudgetMonth(budgetMonth);
+        Map<String, Integer> existing = budgetRepository
+                .findByUserAndBudgetMonthBetween(user, from.atDay(1), to.atDay(1)).stream()
+                .collect(Collectors.toMap(
+                        b -> budgetKey(b.getBudgetMonth(), b.getCategory().getId()),
+                        Budget::getAmount,
+                        (a, b) -> b));
+
+        List<BudgetRepositoryCustom.BudgetUpsert> changes = new ArrayList<>();
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            LocalDate budgetMonth = month.atDay(1);
+            for (Map.Entry<Long, Integer> entry : amounts.entrySet()) {
+                if (!entry.getValue().equals(existing.get(budgetKey(budgetMonth, entry.getKey())))) {
+                    changes.add(new BudgetRepositoryCustom.BudgetUpsert(user.getId(), entry.getKey(), budgetMonth, entry.getValue()));
+                }
+            }
+        }
 
-            budgetRepository.save(budget);
+        if (!changes.isEmpty()) {
+            budgetRepository.upsertAll(changes);
+            dataVersionService.bump(user.getId());
         }
     }
 
+    private String budgetKey(LocalDate budgetMonth, Long categoryId) {
+        return budgetMonth + ":" + categoryId;
+    }
+
     public List<BudgetResponseDto> getBudget(User user, LocalDate date) {
         LocalDate budgetMonth = date.withDayOfMonth(1);
         List<Budget> budgets = budgetRepository.findByUserAndBudgetMonth(user, budgetMonth);
 
+        // category 는 지연 로딩이라 getType() 을 부르면 카테고리마다 조회가 나가므로 ID 로 레지스트리에서 찾음
         return budgets.stream()
-                .map(b -> new BudgetResponseDto(b.getCategory().getType(), b.getAmount()))
+                .map(b -> new BudgetResponseDto(categoryRegistry.findById(b.getCategory().getId().intValue())
+                        .map(Category::getType)
+                        .orElse(null), b.getAmount()))
                 .collect(Collectors.toList());
     }
 
     public int calculateTotalBudget(User user, LocalDate date) {
         LocalDate budgetMonth = date.withDayOfMonth(1);
-        return budgetRepository.findByUserAndBudgetMonth(user, budgetMonth).stream()
-                .mapToInt(Budget::getAmount)
-                .sum();
+        Long sum = budgetRepository.sumAmountByUserAndMonth(user, budgetMonth);
+        return sum != null ? sum.intValue() : 0;
     }
 
+    // 월별 집계(monthly_rollup)에서 읽으므로 거래 건수와 무관하게 카테고리 수만큼만 조회
     public int calculateIncomeAmount(User user, LocalDate date) {
-        LocalDate start = date.withDayOfMonth(1);
-        LocalDate end = date.withDayOfMonth(date.lengthOfMonth());
-        Long sum = transactionRepository.sumAmountByUserAndDateRangeAndType(user.getId(), start, end, TransactionType.INCOME);
+        Long sum = monthlyRollupRepository.sumAmountByUserAndMonthAndType(user.getId(), MonthlyRollup.monthKey(date), TransactionType.INCOME);
         return sum != null ? sum.intValue() : 0;
     }
 
     public int calculateExpenseAmount(User user, LocalDate date) {
-        LocalDate start = date.withDayOfMonth(1);
-        LocalDate end = date.withDayOfMonth(date.lengthOfMonth());
-        Long sum = transactionRepository.sumAmountByUserAndDateRangeAndType(user.getId(), start, end, TransactionType.EXPENSE);
+        Long sum = monthlyRollupRepository.sumAmountByUserAndMonthAndType(user.getId(), MonthlyRollup.monthKey(date), TransactionType.EXPENSE);
         return sum != null ? sum.intValue() : 0;
     }
 
     public int calculateRemainingBudget(User user, LocalDate date) {
-        int total = calculateTotalBudget(user, date);
-        int spent = calculateExpenseAmount(user, date);
-        int remaining = total - spent;
-        return remaining < 0 ? 0 : remaining;
+        return budgetSummaryEngine.summarize(user, YearMonth.from(date)).remaining();
     }
 
     public int calculateExceededBudget(User user, LocalDate date) {
-        int total = calculateTotalBudget(user, date);
-        int spent = calculateExpenseAmount(user, date);
-        int exceeded = spent - total;
-        return exceeded > 0 ? exceeded : 0;
+        return budgetSummaryEngine.summarize(user, YearMonth.from(date)).exceeded();
     }
 
     public BudgetSummaryDto getBudgetSummary(User user, LocalDate date) {
-        int total = calculateTotalBudget(user, date);
-        int Spent = calculateExpenseAmount(user, date);
-        int remaining = total - Spent;
-        int exceeded = remaining < 0 ? -remaining : 0;
-        int prevTotal = calculateTotalBudget(user, date);
-        int prevSpent = calculateExpenseAmount(user, date);
-        int prevRemaining = prevTotal - prevSpent;
-        int prevExceeded = remaining < 0 ? -remaining : 0;
+        YearMonth month = YearMonth.from(date);
+        YearMonth prevMonth = month.minusMonths(1);
+        Map<YearMonth, MonthlySummary> summaries = budgetSummaryEngine.summarize(user, List.of(month, prevMonth));
+
+        MonthlySummary current = summaries.get(month);
+        MonthlySummary prev = summaries.get(prevMonth);
 
-        return new BudgetSummaryDto(total, Spent, remaining < 0 ? 0 : remaining, exceeded,
-                prevTotal, prevSpent, prevRemaining < 0 ? 0 : prevRemaining, prevExceeded);
+        return new BudgetSummaryDto(current.budget(), current.expense(), current.remaining(), current.exceeded(),
+                prev.budget(), prev.expense(), prev.remaining(), prev.exceeded());
     }
 
     public MainSummaryDto getMainSummary(User user) {
         LocalDate now = LocalDate.now();
 
-        int totalBudget = calculateTotalBudget(user, now);
-        int totalIncome = calculateIncomeAmount(user, now);
-        int totalExpense = calculateExpenseAmount(user, now);
+        MonthlySummary summary = budgetSummaryEngine.summarize(user, YearMonth.from(now));
         List<FinancialScheduleDto> futureSchedules = getFutureFinancialSchedules(user, now);
 
-        return new MainSummaryDto(totalBudget, totalIncome, totalExpense, futureSchedules);
+        return new MainSummaryDto(summary.budget(), summary.income(), summary.expense(), futureSchedules);
     }
 
-    // 날짜별 수입·지출 (월 단위)
+    // 날짜별 수입·지출 (월 단위, 날짜 오름차순)
     public List<DailyAmountDto> getDailyIncomeExpense(User user, LocalDate month) {
         LocalDate start = month.withDayOfMonth(1);
         LocalDate end = month.withDayOfMonth(month.lengthOfMonth());
+        AmountCalendarDto calendar = getAmountCalendar(user, start, end, AmountCalendarDto.Granularity.DAY);
 
-        List<Transaction> transactions = transactionRepository.findByUserIdAndTransactionDateBetween(user.getId(), start, end);
-
-        Map<LocalDate, DailyAmountDto> dailyMap = transactions.stream()
-                .collect(Collectors.groupingBy(Transaction::getTransactionDate,
-                        Collectors.collectingAndThen(Collectors.toList(), list -> {
-                            int incomeSum = list.stream()
-                                    .filter(t -> t.getType() == TransactionType.INCOME)
-                                    .mapToInt(Transaction::getAmount)
-                                    .sum();
-                            int expenseSum = list.stream()
-                                    .filter(t -> t.getType() == TransactionType.EXPENSE)
-                                    .mapToInt(Transaction::getAmount)
-                                    .sum();
-                            return new DailyAmountDto(list.get(0).getTransactionDate(), incomeSum, expenseSum);
-                        })));
-
-        return dailyMap.values().stream()
-                .filter(d -> d.getIncome() > 0 || d.getExpense() > 0)  // 0원 날짜 제외
-                .collect(Collectors.toList());
+        List<DailyAmountDto> result = new ArrayList<>();
+        for (int i = 0; i < calendar.income().length; i++) {
+            if (calendar.income()[i] > 0 || calendar.expense()[i] > 0) {  // 0원 날짜 제외
+                result.add(new DailyAmountDto(start.plusDays(i), (int) calendar.income()[i], (int) calendar.expense()[i]));
+            }
+        }
+        return result;
+    }
+
+    // from ~ to 의 수입·지출을 granularity 단위 구간별로 (DB 에서 날짜·유형별로 합산한 뒤 구간 배열에 누적)
+    public AmountCalendarDto getAmountCalendar(User user, LocalDate from, LocalDate to, AmountCalendarDto.Granularity granularity) {
+        if (to.isBefore(from)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "기간이 올바르지 않습니다: " + from + " ~ " + to);
+        }
+        LocalDate start = granularity.align(from);
+        int size = granularity.index(start, to) + 1;
+        if (size > MAX_CALENDAR_BUCKETS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "구간은 최대 " + MAX_CALENDAR_BUCKETS + "개까지 조회할 수 있습니다: " + size);
+        }
+
+        long[] income = new long[size];
+        long[] expense = new long[size];
+        for (DailyTypeSumRow row : transactionRepository.sumDailyByType(user.getId(), from, to)) {
+            int i = granularity.index(start, row.getDate());
+            if (row.getType() == TransactionType.INCOME) {
+                income[i] += row.getAmount().longValue();
+            } else if (row.getType() == TransactionType.EXPENSE) {
+                expense[i] += row.getAmount().longValue();
+            }
+        }
+        return new AmountCalendarDto(granularity, start, income, expense);
     }
 
     public List<FinancialScheduleDto> getFutureFinancialSchedules(User user, LocalDate month) {
@@ -148,45 +215,140 @@ public class BudgetService {
         // 오늘 이후의 해당 월 내 일정만 필터
         LocalDate scheduleStart = today.isAfter(start) ? today : start;
 
-        List<Transaction> futureTransactions = transactionRepository.findByUserIdAndTransactionDateBetween(user.getId(),
-                scheduleStart, end);
+        return transactionRepository.findSchedulesByUserIdAndTransactionDateBetween(user.getId(), scheduleStart, end);
+    }
 
-        return futureTransactions.stream()
-                .map(t -> new FinancialScheduleDto(t.getTransactionDate(), t.getVendor(), t.getAmount(), t.getType()))
-                .collect(Collectors.toList());
+
+    // end 까지 months 개월의 수입/지출 합계 (monthly_rollup 에서 한 번에 GROUP BY)
+    public MonthlyTrendDto getMonthlyTrend(User user, YearMonth end, int months, TransactionType type, boolean byCategory) {
+        if (months < 1 || months > MAX_TREND_MONTHS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "조회 기간은 1~" + MAX_TREND_MONTHS + "개월이어야 합니다: " + months);
+        }
+        YearMonth start = end.minusMonths(months - 1);
+
+        List<String> labels = new ArrayList<>(months);
+        for (int i = 0; i < months; i++) {
+            labels.add(start.plusMonths(i).toString());
+        }
+        long[] income = type != TransactionType.EXPENSE ? new long[months] : null;
+        long[] expense = type != TransactionType.INCOME ? new long[months] : null;
+        Map<TransactionType, TreeMap<Integer, long[]>> byType = new EnumMap<>(TransactionType.class);
+
+        List<MonthlyTrendRow> rows = monthlyRollupRepository.sumByMonth(user.getId(),
+                MonthlyRollup.monthKey(start.atDay(1)), MonthlyRollup.monthKey(end.atDay(1)), type);
+        for (MonthlyTrendRow row : rows) {
+            int i = (int) ChronoUnit.MONTHS.between(start, YearMonth.of(row.getMonth() / 100, row.getMonth() % 100));
+            long amount = row.getAmount().longValue();
+            if (row.getType() == TransactionType.INCOME) {
+                income[i] += amount;
+            } else {
+                expense[i] += amount;
+            }
+            if (byCategory) {
+                byType.computeIfAbsent(row.getType(), t -> new TreeMap<>())
+                        .computeIfAbsent(row.getCategoryId(), c -> new long[months])[i] += amount;
+            }
+        }
+
+        List<MonthlyTrendDto.CategorySeries> categories = new ArrayList<>();
+        byType.forEach((t, series) -> series.forEach((categoryId, amounts) -> {
+            Category category = categoryRegistry.findById(categoryId).orElse(null);
+            categories.add(new MonthlyTrendDto.CategorySeries(
+                    category != null ? category.getType() : null,
+                    category != null ? category.getDisplayName() : "미분류",
+                    t, amounts));
+        }));
+        return new MonthlyTrendDto(labels, income, expense, categories);
     }
 
+    // 카테고리별 예산 대비 지출 (쿼리 1회, 예산이나 지출이 있는 카테고리만)
+    public CategoryBudgetReportDto getCategoryReport(User user, YearMonth month) {
+        List<CategoryReportRow> rows = budgetRepository.reportByCategory(
+                user.getId(), month.atDay(1), MonthlyRollup.monthKey(month.atDay(1)));
 
-    public MonthlyAnalysisDto getMonthlyAnalysis(User user) {
-        LocalDate now = LocalDate.now();
-        LocalDate currentMonthStart = now.withDayOfMonth(1);
-        LocalDate previousMonthStart = currentMonthStart.minusMonths(1);
-        LocalDate twoMonthsAgoStart = currentMonthStart.minusMonths(2);
+        long totalBudget = 0;
+        long totalSpent = 0;
+        for (CategoryReportRow row : rows) {
+            totalBudget += toLong(row.getBudget());
+            totalSpent += toLong(row.getSpent());
+        }
 
-        int currentTotal = calculateExpenseAmount(user, currentMonthStart);
-        int previousTotal = calculateExpenseAmount(user, previousMonthStart);
-        int twoMonthsAgoTotal = calculateExpenseAmount(user, twoMonthsAgoStart);
+        List<CategoryBudgetReportDto.Item> items = new ArrayList<>();
+        for (CategoryReportRow row : rows) {
+            long budget = toLong(row.getBudget());
+            long spent = toLong(row.getSpent());
+            if (budget == 0 && spent == 0) {
+                continue;
+            }
+            Category category = categoryRegistry.findById(row.getCategoryId().intValue()).orElse(null);
+            items.add(new CategoryBudgetReportDto.Item(
+                    category != null ? category.getType() : null,
+                    category != null ? category.getDisplayName() : "미분류",
+                    budget,
+                    spent,
+                    budget - spent,
+                    budget > 0 ? percent(spent, budget) : null,
+                    totalSpent > 0 ? percent(spent, totalSpent) : 0));
+        }
+        return new CategoryBudgetReportDto(month.toString(), totalBudget, totalSpent, items);
+    }
 
-        int daysPassed = now.getDayOfMonth();
-        double average = daysPassed > 0 ? Math.round((double) currentTotal / daysPassed * 10) / 10.0 : 0;
+    private long toLong(Number value) {
+        return value != null ? value.longValue() : 0;
+    }
+
+    // 소수 첫째 자리 백분율
+    private double percent(long part, long whole) {
+        return Math.round(part * 1000.0 / whole) / 10.0;
+    }
 
-        List<Transaction> transactions = transactionRepository.findByUserIdAndTransactionDateBetween(
-                user.getId(),
-                currentMonthStart,
-                currentMonthStart.plusMonths(1).minusDays(1)
-        );
+    // 월별 분석의 거래 내역 (최신순 keyset 페이지)
+    public TransactionDetailPageDto getMonthlyTransactions(User user, YearMonth month, String cursor, Integer limit) {
+        TransactionCursor after = TransactionCursor.decode(cursor);
+        int size = limit == null || limit <= 0 ? DEFAULT_DETAIL_PAGE_SIZE : Math.min(limit, MAX_DETAIL_PAGE_SIZE);
 
-        List<MonthlyAnalysisDto.TransactionDetail> transactionDetails = transactions.stream()
+        List<TransactionDetailRow> rows = transactionRepository.findDetailPageByUserIdAndTransactionDateBetween(user.getId(),
+                month.atDay(1), month.atEndOfMonth(), after.transactionDate(), after.id(), Limit.of(size + 1));
+        boolean hasNext = rows.size() > size;
+        List<TransactionDetailRow> page = hasNext ? rows.subList(0, size) : rows;
+
+        List<MonthlyAnalysisDto.TransactionDetail> items = page.stream()
                 .map(tx -> MonthlyAnalysisDto.TransactionDetail.builder()
-                        .date(tx.getTransactionDate())
-                        .vendor(tx.getVendor())
-                        .amount(tx.getAmount())
+                        .date(tx.transactionDate())
+                        .vendor(tx.vendor())
+                        .amount(tx.amount())
                         .build())
                 .collect(Collectors.toList());
+        String next = null;
+        if (hasNext) {
+            TransactionDetailRow last = page.get(page.size() - 1);
+            next = new TransactionCursor(last.transactionDate(), last.id()).encode();
+        }
+        return new TransactionDetailPageDto(items, next);
+    }
 
-        // 소비 습관 점수 계산 예시 (하드코딩 / 나중에 계산 로직 연결)
-        int currentHabitScore = 88;
-        int previousHabitScore = 83;
+    public MonthlyAnalysisDto getMonthlyAnalysis(User user) {
+        LocalDate now = LocalDate.now();
+        YearMonth currentMonth = YearMonth.from(now);
+
+        // 이번 달, 지난달, 전전달 지출을 쿼리 한 번으로
+        long[] expenses = getMonthlyTrend(user, currentMonth, 3, TransactionType.EXPENSE, false).expense();
+        int twoMonthsAgoTotal = (int) expenses[0];
+        int previousTotal = (int) expenses[1];
+        int currentTotal = (int) expenses[2];
+
+        int daysPassed = now.getDayOfMonth();
+        double average = daysPassed > 0 ? Math.round((double) currentTotal / daysPassed * 10) / 10.0 : 0;
+
+        // 거래 내역은 첫 페이지만 포함, 나머지는 /analysis/monthly/transactions?cursor= 로 조회
+        TransactionDetailPageDto firstPage = getMonthlyTransactions(user, currentMonth, null, null);
+
+        // 소비 습관 점수 (야간 배치가 저장한 값, 없으면 즉석 계산)
+        Map<YearMonth, HabitScoreCalculator.Result> scores = habitScoreService.getScores(
+                user.getId(), List.of(currentMonth, currentMonth.minusMonths(1)), now);
+        HabitScoreCalculator.Result current = scores.get(currentMonth);
+        int currentHabitScore = current.score();
+        int previousHabitScore = scores.get(currentMonth.minusMonths(1)).score();
         int scoreChange = currentHabitScore - previousHabitScore;
 
         List<String> feedbacks = new ArrayList<>();
@@ -210,20 +372,50 @@ public class BudgetService {
             feedbacks.add("소비 습관을 개선할 필요가 있어요.");
         }
 
-        feedbacks.add("22일 동안 소비를 기록했어요.");
-        feedbacks.add("식비가 전체 소비의 52%를 차지했어요");
+        feedbacks.add(current.recordedDays() + "일 동안 소비를 기록했어요.");
+        feedbacks.addAll(categoryFeedbacks(getCategoryReport(user, currentMonth)));
 
         return MonthlyAnalysisDto.builder()
                 .currentMonthTotal(currentTotal)
                 .currentMonthAverage(average)
                 .previousMonthTotal(previousTotal)
                 .twoMonthsAgoTotal(twoMonthsAgoTotal)
-                .transactions(transactionDetails)
+                .transactions(firstPage.items())
+                .transactionsNext(firstPage.next())
                 .habitScore(currentHabitScore)
                 .habitScoreChange(scoreChange)
                 .habitFeedbackMessages(feedbacks)
                 .build();
     }
 
+    // 카테고리 리포트 기반 피드백: 비중이 가장 큰 카테고리, 예산 초과/임박 카테고리
+    private List<String> categoryFeedbacks(CategoryBudgetReportDto report) {
+        List<String> feedbacks = new ArrayList<>();
+        report.categories().stream()
+                .filter(item -> item.share() > 0)
+                .max(Comparator.comparingDouble(CategoryBudgetReportDto.Item::share))
+                .ifPresent(top -> feedbacks.add(top.displayName() + subjectParticle(top.displayName())
+                        + " 전체 소비의 " + Math.round(top.share()) + "%를 차지했어요"));
+
+        for (CategoryBudgetReportDto.Item item : report.categories()) {
+            if (item.percentUsed() == null) {
+                continue;
+            }
+            if (item.remaining() < 0) {
+                feedbacks.add(item.displayName() + " 예산을 " + String.format("%,d", -item.remaining()) + "원 초과했어요.");
+            } else if (item.percentUsed() >= 80) {
+                feedbacks.add(item.displayName() + " 예산의 " + Math.round(item.percentUsed()) + "%를 사용했어요.");
+            }
+        }
+        return feedbacks;
+    }
 
+    // 마지막 글자의 받침 유무로 주격 조사 선택 (한글이 아니면 "이(가)")
+    private String subjectParticle(String word) {
+        char last = word.charAt(word.length() - 1);
+        if (last < '가' || last > '힣') {
+            return "이(가)";
+        }
+        return (last - '가') % 28 != 0 ? "이" : "가";
+    }
 }
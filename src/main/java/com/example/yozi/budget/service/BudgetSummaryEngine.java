@@ -0,0 +1,64 @@
+package com.example.yozi.budget.service;
+
+import com.example.yozi.budget.dto.MonthlySummary;
+import com.example.yozi.budget.repository.BudgetRepository;
+import com.example.yozi.budget.repository.MonthlySummaryRow;
+import com.example.yozi.transaction.entity.MonthlyRollup;
+import com.example.yozi.user.entity.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 예산 총액과 수입/지출 합계를 요청한 달 수와 관계없이 쿼리 한 번으로 계산합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BudgetSummaryEngine {
+
+    private final BudgetRepository budgetRepository;
+
+    public MonthlySummary summarize(User user, YearMonth month) {
+        return summarize(user, List.of(month)).get(month);
+    }
+
+    /**
+     * @return 요청한 순서대로 정렬된 월별 요약 (데이터가 없는 달은 0으로 채움)
+     */
+    public Map<YearMonth, MonthlySummary> summarize(User user, Collection<YearMonth> months) {
+        Map<YearMonth, MonthlySummary> result = new LinkedHashMap<>();
+        Map<Integer, YearMonth> byKey = new LinkedHashMap<>();
+        for (YearMonth month : months) {
+            result.put(month, MonthlySummary.EMPTY);
+            byKey.put(MonthlyRollup.monthKey(month.atDay(1)), month);
+        }
+        if (result.isEmpty()) {
+            return result;
+        }
+
+        List<MonthlySummaryRow> rows = budgetRepository.summarizeMonths(
+                user.getId(),
+                result.keySet().stream().map(m -> m.atDay(1)).toList(),
+                List.copyOf(byKey.keySet()));
+
+        for (MonthlySummaryRow row : rows) {
+            YearMonth month = byKey.get(row.getMonthKey().intValue());
+            if (month != null) {
+                result.put(month, new MonthlySummary(
+                        toInt(row.getBudget()), toInt(row.getIncome()), toInt(row.getExpense())));
+            }
+        }
+        return result;
+    }
+
+    private int toInt(Number value) {
+        return value != null ? value.intValue() : 0;
+    }
+}
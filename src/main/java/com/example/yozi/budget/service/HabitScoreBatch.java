@@ -0,0 +1,271 @@
+package com.example.yozi.budget.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 전체 사용자의 소비 습관 점수를 매일 밤 계산합니다 (어제까지의 거래 기준, 매월 1일에는 지난달 점수가 확정됨).
+ * <ul>
+ *     <li>사용자 ID 구간을 yozi.habit.batch.partitions 개로 나눠 병렬 처리하고, 각 구간은 chunk-size 명씩
+ *         (조회 3회 + 배치 upsert 1회 + data_version UPDATE 1회) 한 트랜잭션으로 저장합니다.</li>
+ *     <li>청크마다 habit_score_progress 에 마지막 사용자 ID 를 같은 트랜잭션으로 기록하므로, 중단되면 같은 실행일에
+ *         재시작(애플리케이션 기동 시 자동)할 때 이어서 처리합니다.</li>
+ *     <li>yozi.habit.batch.window 를 넘기면 남은 청크를 멈추고 진행 상황만 남깁니다.</li>
+ *     <li>모든 인스턴스가 같은 시각에 실행하므로 파티션은 조건부 UPDATE 로 임대(yozi.habit.batch.lease)를 얻은 인스턴스만
+ *         처리합니다. 임대는 청크마다 연장하고, 연장에 실패하면(다른 인스턴스가 만료된 임대를 가져감) 그 청크를 롤백하고
+ *         멈춥니다. 멈춘 인스턴스의 파티션은 임대가 만료된 뒤 다른 인스턴스의 재개 실행이 이어받습니다.</li>
+ * </ul>
+ * 처리량은 실행 로그의 파티션별 users/s 로 확인합니다.
+ * 파티션마다 DB 커넥션을 하나씩 쓰므로 파티션 수는 Hikari 풀 크기보다 작게 유지합니다.
+ */
+@Slf4j
+@Component
+public class HabitScoreBatch {
+
+    private static final String FIND_PROGRESS_SQL = "SELECT partition_no, range_start, range_end, last_user_id, " +
+            "scored_users, done FROM habit_score_progress WHERE run_date = ? ORDER BY partition_no";
+
+    // 여러 인스턴스가 동시에 만들면 같은 순서로 INSERT 하므로 먼저 커밋한 쪽의 구간이 남고 나머지는 무시됨
+    private static final String INSERT_PROGRESS_SQL = "INSERT INTO habit_score_progress (run_date, partition_no, " +
+            "range_start, range_end, last_user_id, scored_users, done, updated_at) VALUES (?, ?, ?, ?, ?, 0, FALSE, ?) " +
+            "ON DUPLICATE KEY UPDATE partition_no = partition_no";
+
+    // 아무도 잡지 않았거나 임대가 만료된 미완료 파티션만 가져감
+    private static final String CLAIM_SQL = "UPDATE habit_score_progress SET claimed_by = ?, claimed_until = ? " +
+            "WHERE run_date = ? AND partition_no = ? AND done = FALSE " +
+            "AND (claimed_by IS NULL OR claimed_by = ? OR claimed_until < ?)";
+
+    private static final String LAST_USER_SQL = "SELECT last_user_id FROM habit_score_progress " +
+            "WHERE run_date = ? AND partition_no = ?";
+
+    // 임대를 가진 인스턴스만 진행을 기록하며, 기록할 때 임대를 연장하고 완료되면 놓음
+    private static final String UPDATE_PROGRESS_SQL = "UPDATE habit_score_progress SET last_user_id = ?, " +
+            "scored_users = scored_users + ?, done = ?, claimed_by = CASE WHEN ? THEN NULL ELSE claimed_by END, " +
+            "claimed_until = ?, updated_at = ? WHERE run_date = ? AND partition_no = ? AND claimed_by = ?";
+
+    private static final String RELEASE_SQL = "UPDATE habit_score_progress SET claimed_by = NULL, claimed_until = NULL " +
+            "WHERE run_date = ? AND partition_no = ? AND claimed_by = ?";
+
+    private static final String NEXT_USERS_SQL = "SELECT id FROM users WHERE id > ? AND id <= ? ORDER BY id LIMIT ?";
+
+    private record Progress(int partitionNo, long rangeStart, long rangeEnd, long lastUserId, long scoredUsers,
+                            boolean done) {
+    }
+
+    private final HabitScoreService habitScoreService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int partitions;
+    private final int chunkSize;
+    private final Duration window;
+    private final ZoneId zone;
+    private final Duration lease;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public HabitScoreBatch(HabitScoreService habitScoreService,
+                           JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${yozi.habit.batch.enabled:false}") boolean enabled,
+                           @Value("${yozi.habit.batch.partitions:4}") int partitions,
+                           @Value("${yozi.habit.batch.chunk-size:500}") int chunkSize,
+                           @Value("${yozi.habit.batch.window:3h}") Duration window,
+                           @Value("${yozi.habit.batch.zone:Asia/Seoul}") ZoneId zone,
+                           @Value("${yozi.habit.batch.lease:5m}") Duration lease) {
+        this.habitScoreService = habitScoreService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.partitions = partitions;
+        this.chunkSize = chunkSize;
+        this.window = window;
+        this.zone = zone;
+        this.lease = lease;
+    }
+
+    // 실행일은 cron 과 같은 시간대(yozi.habit.batch.zone) 기준, JVM 기본 시간대와 무관
+    @Scheduled(cron = "${yozi.habit.batch.cron:0 0 3 * * *}", zone = "${yozi.habit.batch.zone:Asia/Seoul}")
+    public void runNightly() {
+        if (enabled) {
+            run(LocalDate.now(zone));
+        }
+    }
+
+    // 오늘 실행이 중간에 멈췄다면 (배포, 장애) 기동 후 이어서 처리. 다른 인스턴스가 처리 중인 파티션은 임대가 있어 건너뜀
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterrupted() {
+        LocalDate today = LocalDate.now(zone);
+        if (enabled && findProgress(today).stream().anyMatch(p -> !p.done())) {
+            log.info("중단된 소비 습관 점수 배치를 재개합니다 (실행일 {})", today);
+            Thread.ofVirtual().name("habit-score-resume").start(() -> run(today));
+        }
+    }
+
+    /**
+     * runDate 전날까지의 거래로 그 달의 점수를 계산합니다. 다른 인스턴스가 임대한 파티션은 건너뜁니다.
+     * @return 이번 실행에서 점수를 저장한 사용자 수
+     */
+    public long run(LocalDate runDate) {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("소비 습관 점수 배치가 이미 실행 중입니다");
+            return 0;
+        }
+        try {
+            LocalDate asOf = runDate.minusDays(1);
+            YearMonth month = YearMonth.from(asOf);
+            List<Progress> progress = findOrCreateProgress(runDate);
+            long deadline = System.nanoTime() + window.toNanos();
+            long started = System.nanoTime();
+
+            ExecutorService executor = Executors.newFixedThreadPool(Math.max(progress.size(), 1));
+            long scored = 0;
+            try {
+                List<Future<Long>> futures = new ArrayList<>();
+                for (Progress p : progress) {
+                    if (!p.done()) {
+                        futures.add(executor.submit(() -> runPartition(runDate, p, month, asOf, deadline)));
+                    }
+                }
+                for (Future<Long> future : futures) {
+                    try {
+                        scored += future.get();
+                    } catch (ExecutionException e) {
+                        log.error("소비 습관 점수 배치 파티션 실패 (실행일 {}), 재시작하면 이어서 처리합니다", runDate, e.getCause());
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                executor.shutdown();
+            }
+
+            double seconds = Math.max((System.nanoTime() - started) / 1e9, 0.001);
+            log.info("소비 습관 점수 배치 종료: {} {}명, {}초, {} users/s (파티션 {}개)",
+                    month, scored, Math.round(seconds), Math.round(scored / seconds), progress.size());
+            return scored;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private long runPartition(LocalDate runDate, Progress p, YearMonth month, LocalDate asOf, long deadline) {
+        if (jdbcTemplate.update(CLAIM_SQL, instanceId, leaseUntil(), Date.valueOf(runDate), p.partitionNo(),
+                instanceId, Timestamp.valueOf(LocalDateTime.now())) == 0) {
+            log.info("소비 습관 점수 파티션 {} 은 다른 인스턴스가 처리 중이거나 완료되어 건너뜁니다", p.partitionNo());
+            return 0;
+        }
+        // 임대를 얻기 전에 읽은 값은 다른 인스턴스가 그 사이 진행했을 수 있으므로 다시 읽음
+        long lastUserId = jdbcTemplate.queryForObject(LAST_USER_SQL, Long.class, Date.valueOf(runDate), p.partitionNo());
+        long scored = 0;
+        long started = System.nanoTime();
+
+        try {
+            while (true) {
+                if (System.nanoTime() > deadline) {
+                    log.warn("소비 습관 점수 배치 파티션 {} 이 제한 시간({})을 넘겨 사용자 {} 이후는 다음에 처리합니다",
+                            p.partitionNo(), window, lastUserId);
+                    return scored;
+                }
+
+                List<Long> userIds = jdbcTemplate.queryForList(NEXT_USERS_SQL, Long.class, lastUserId, p.rangeEnd(), chunkSize);
+                if (userIds.isEmpty()) {
+                    updateProgress(runDate, p.partitionNo(), lastUserId, 0, true);
+                    break;
+                }
+
+                long chunkLast = userIds.get(userIds.size() - 1);
+                Integer saved = transactionTemplate.execute(status -> {
+                    int count = habitScoreService.scoreAndSave(userIds, month, asOf);
+                    if (!updateProgress(runDate, p.partitionNo(), chunkLast, count, false)) {
+                        status.setRollbackOnly();
+                        return null;
+                    }
+                    return count;
+                });
+                if (saved == null) {
+                    log.warn("소비 습관 점수 파티션 {} 의 임대를 다른 인스턴스가 가져가 사용자 {} 이후는 그쪽에서 처리합니다",
+                            p.partitionNo(), lastUserId);
+                    return scored;
+                }
+                scored += saved;
+                lastUserId = chunkLast;
+            }
+        } finally {
+            // 완료 시에는 이미 놓았으므로 제한 시간 초과나 실패로 멈춘 경우만 해당. 다음 재개 실행이 바로 가져갈 수 있게 함
+            jdbcTemplate.update(RELEASE_SQL, Date.valueOf(runDate), p.partitionNo(), instanceId);
+        }
+
+        double seconds = Math.max((System.nanoTime() - started) / 1e9, 0.001);
+        log.info("소비 습관 점수 파티션 {} 완료: {}명 ({} users/s)", p.partitionNo(), scored, Math.round(scored / seconds));
+        return scored;
+    }
+
+    private List<Progress> findOrCreateProgress(LocalDate runDate) {
+        List<Progress> progress = findProgress(runDate);
+        if (!progress.isEmpty()) {
+            return progress;
+        }
+
+        Long minId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM users", Long.class);
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM users", Long.class);
+        if (minId == null || maxId == null) {
+            return List.of();
+        }
+
+        // ID 구간을 균등 분할 (IDENTITY 라 구간별 사용자 수가 거의 같음). 한 트랜잭션으로 만들어 다른 인스턴스가
+        // 동시에 만들더라도 한쪽의 구간 전체만 남게 함
+        long span = (maxId - minId) / partitions + 1;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < partitions; i++) {
+                long start = minId + span * i;
+                long end = i == partitions - 1 ? maxId : start + span - 1;
+                if (start > maxId) {
+                    break;
+                }
+                jdbcTemplate.update(INSERT_PROGRESS_SQL, Date.valueOf(runDate), i, start, end, start - 1, now);
+            }
+        });
+        return findProgress(runDate);
+    }
+
+    private List<Progress> findProgress(LocalDate runDate) {
+        return jdbcTemplate.query(FIND_PROGRESS_SQL, (rs, rowNum) -> new Progress(
+                rs.getInt(1), rs.getLong(2), rs.getLong(3), rs.getLong(4), rs.getLong(5), rs.getBoolean(6)),
+                Date.valueOf(runDate));
+    }
+
+    // @return 임대를 아직 가지고 있어 기록했는지
+    private boolean updateProgress(LocalDate runDate, int partitionNo, long lastUserId, int scored, boolean done) {
+        return jdbcTemplate.update(UPDATE_PROGRESS_SQL, lastUserId, scored, done, done, done ? null : leaseUntil(),
+                Timestamp.valueOf(LocalDateTime.now()), Date.valueOf(runDate), partitionNo, instanceId) == 1;
+    }
+
+    private Timestamp leaseUntil() {
+        return Timestamp.valueOf(LocalDateTime.now().plus(lease));
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.yozi.budget.service;
+
+import java.util.Map;
+
+/**
+ * 소비 습관 점수 (0~100) 계산.
+ * <ul>
+ *     <li>예산 준수 (40점): 지출/예산 비율 100% 이하 만점, 150% 이상 0점. 예산이 없으면 절반</li>
+ *     <li>카테고리 균형 (20점): 가장 큰 카테고리 비중 40% 이하 만점, 90% 이상 0점</li>
+ *     <li>기록 일수 (20점): 기간 일수의 60% 이상 기록하면 만점</li>
+ *     <li>지출 안정성 (20점): 일별 지출의 변동계수(표준편차/평균) 1 이하 만점, 3 이상 0점</li>
+ * </ul>
+ * 지출이 없는 달은 균형/안정성을 판단할 수 없으므로 절반 점수를 줍니다.
+ */
+public final class HabitScoreCalculator {
+
+    static final int BUDGET_WEIGHT = 40;
+    static final int BALANCE_WEIGHT = 20;
+    static final int RECORD_WEIGHT = 20;
+    static final int STABILITY_WEIGHT = 20;
+
+    private static final double RECORD_TARGET_RATIO = 0.6;
+
+    private HabitScoreCalculator() {
+    }
+
+    /**
+     * @param budget          해당 월 총 예산
+     * @param dailyExpense    기간의 날짜별 지출 (인덱스 0 = 1일, 길이 = 기간 일수)
+     * @param recordedDays    수입/지출을 하나라도 기록한 날 수
+     * @param categoryExpense 카테고리 ID(없으면 0) → 지출 합계
+     */
+    public record Input(long budget, long[] dailyExpense, int recordedDays, Map<Integer, Long> categoryExpense) {
+    }
+
+    public record Result(int score, int budgetScore, int balanceScore, int recordScore, int stabilityScore,
+                         int recordedDays) {
+    }
+
+    public static Result calculate(Input input) {
+        long expense = 0;
+        long topAmount = 0;
+        for (long amount : input.categoryExpense().values()) {
+            expense += amount;
+            topAmount = Math.max(topAmount, amount);
+        }
+        int topShare = expense > 0 ? (int) Math.round(topAmount * 100.0 / expense) : 0;
+
+        int budgetScore = input.budget() > 0
+                ? scale((double) expense / input.budget(), 1.0, 1.5, BUDGET_WEIGHT)
+                : BUDGET_WEIGHT / 2;
+        int balanceScore = expense > 0 ? scale(topShare, 40, 90, BALANCE_WEIGHT) : BALANCE_WEIGHT / 2;
+
+        int periodDays = Math.max(input.dailyExpense().length, 1);
+        double recordTarget = Math.ceil(periodDays * RECORD_TARGET_RATIO);
+        int recordScore = (int) Math.round(Math.min(1.0, input.recordedDays() / recordTarget) * RECORD_WEIGHT);
+
+        double cv = coefficientOfVariation(input.dailyExpense());
+        int stabilityScore = cv >= 0 ? scale(cv, 1.0, 3.0, STABILITY_WEIGHT) : STABILITY_WEIGHT / 2;
+
+        return new Result(budgetScore + balanceScore + recordScore + stabilityScore,
+                budgetScore, balanceScore, recordScore, stabilityScore,
+                input.recordedDays());
+    }
+
+    // value 가 good 이하면 만점, bad 이상이면 0점, 그 사이는 선형
+    private static int scale(double value, double good, double bad, int weight) {
+        if (value <= good) {
+            return weight;
+        }
+        if (value >= bad) {
+            return 0;
+        }
+        return (int) Math.round((bad - value) / (bad - good) * weight);
+    }
+
+    // 지출이 없으면 -1
+    private static double coefficientOfVariation(long[] daily) {
+        if (daily.length == 0) {
+            return -1;
+        }
+        double sum = 0;
+        for (long value : daily) {
+            sum += value;
+        }
+        if (sum == 0) {
+            return -1;
+        }
+        double mean = sum / daily.length;
+        double variance = 0;
+        for (long value : daily) {
+            variance += (value - mean) * (value - mean);
+        }
+        return Math.sqrt(variance / daily.length) / mean;
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.yozi.budget.service;
+
+import com.example.yozi.budget.entity.HabitScore;
+import com.example.yozi.budget.repository.HabitScoreRepository;
+import com.example.yozi.transaction.entity.MonthlyRollup;
+import com.example.yozi.user.service.DataVersionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.*;
+
+/**
+ * 소비 습관 점수 조회/계산.
+ * 사용자 ID 목록 하나에 대해 예산, 카테고리별 지출, 일별 지출을 각각 GROUP BY 쿼리 한 번으로 읽으므로
+ * 배치 청크(수백 명)든 단일 사용자든 쿼리 수는 3회입니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class HabitScoreService {
+
+    // %s 에는 청크의 사용자 수만큼 자리표시자가 들어감 (user_id IN (?, ?, ...))
+    private static final String BUDGET_SQL = "SELECT user_id, SUM(amount) FROM budget " +
+            "WHERE user_id IN (%s) AND budget_month = ? GROUP BY user_id";
+
+    private static final String CATEGORY_EXPENSE_SQL = "SELECT user_id, category_id, amount FROM monthly_rollup " +
+            "WHERE user_id IN (%s) AND rollup_month = ? AND type = 'EXPENSE'";
+
+    // idx_tx_user_date_type (user_id, transaction_date, type, amount) 커버링.
+    // user_id 를 BETWEEN 구간으로 주면 선두 컬럼이 범위라 transaction_date 조건이 인덱스 범위에 쓰이지 않고
+    // 구간 안 모든 사용자의 전체 기간 거래를 읽으므로, IN 목록으로 사용자마다 (user_id, 날짜 구간) 범위 스캔이 되게 함
+    private static final String DAILY_SQL = "SELECT user_id, transaction_date, type, SUM(amount) FROM transactions " +
+            "WHERE user_id IN (%s) AND transaction_date BETWEEN ? AND ? " +
+            "GROUP BY user_id, transaction_date, type";
+
+    private static final String UPSERT_SQL = "INSERT INTO habit_score (user_id, score_month, score, budget_score, " +
+            "balance_score, record_score, stability_score, recorded_days, as_of, computed_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE " +
+            "score = VALUES(score), budget_score = VALUES(budget_score), balance_score = VALUES(balance_score), " +
+            "record_score = VALUES(record_score), stability_score = VALUES(stability_score), " +
+            "recorded_days = VALUES(recorded_days), as_of = VALUES(as_of), computed_at = VALUES(computed_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final HabitScoreRepository habitScoreRepository;
+    private final DataVersionService dataVersionService;
+
+    /**
+     * 저장된 점수를 우선 사용하고, 저장된 점수가 없는 달만 즉석에서 계산합니다 (매월 1일 배치 전의 이번 달,
+     * 배치 이후 가입한 사용자, 배치를 끈 환경). 즉석 계산은 조회 3회이며 결과는 저장하지 않습니다.
+     */
+    @Transactional(readOnly = true)
+    public Map<YearMonth, HabitScoreCalculator.Result> getScores(Long userId, List<YearMonth> months, LocalDate today) {
+        Map<YearMonth, HabitScoreCalculator.Result> result = new LinkedHashMap<>();
+        Map<Integer, HabitScore> stored = new HashMap<>();
+        for (HabitScore score : habitScoreRepository.findByUserIdAndScoreMonthIn(userId,
+                months.stream().map(m -> MonthlyRollup.monthKey(m.atDay(1))).toList())) {
+            stored.put(score.getScoreMonth(), score);
+        }
+
+        for (YearMonth month : months) {
+            HabitScore score = stored.get(MonthlyRollup.monthKey(month.atDay(1)));
+            if (score != null) {
+                result.put(month, score.toResult());
+            } else {
+                LocalDate asOf = month.atEndOfMonth().isBefore(today) ? month.atEndOfMonth() : today;
+                result.put(month, score(List.of(userId), month, asOf).get(userId));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * userIds 의 month 점수를 asOf 까지의 거래로 계산합니다.
+     */
+    public Map<Long, HabitScoreCalculator.Result> score(List<Long> userIds, YearMonth month, LocalDate asOf) {
+        Map<Long, HabitScoreCalculator.Result> results = new LinkedHashMap<>();
+        if (userIds.isEmpty()) {
+            return results;
+        }
+        String placeholders = String.join(", ", Collections.nCopies(userIds.size(), "?"));
+        LocalDate start = month.atDay(1);
+        LocalDate end = asOf.isBefore(month.atEndOfMonth()) ? asOf : month.atEndOfMonth();
+        int periodDays = end.getDayOfMonth();
+
+        Map<Long, Long> budgets = new HashMap<>();
+        jdbcTemplate.query(BUDGET_SQL.formatted(placeholders), rs -> {
+            budgets.put(rs.getLong(1), rs.getLong(2));
+        }, params(userIds, Date.valueOf(start)));
+
+        Map<Long, Map<Integer, Long>> categoryExpense = new HashMap<>();
+        jdbcTemplate.query(CATEGORY_EXPENSE_SQL.formatted(placeholders), rs -> {
+            categoryExpense.computeIfAbsent(rs.getLong(1), id -> new HashMap<>())
+                    .merge(rs.getInt(2), rs.getLong(3), Long::sum);
+        }, params(userIds, MonthlyRollup.monthKey(start)));
+
+        Map<Long, long[]> dailyExpense = new HashMap<>();
+        Map<Long, BitSet> recordedDays = new HashMap<>();
+        jdbcTemplate.query(DAILY_SQL.formatted(placeholders), rs -> {
+            long userId = rs.getLong(1);
+            int day = rs.getDate(2).toLocalDate().getDayOfMonth() - 1;
+            recordedDays.computeIfAbsent(userId, id -> new BitSet(periodDays)).set(day);
+            if ("EXPENSE".equals(rs.getString(3))) {
+                dailyExpense.computeIfAbsent(userId, id -> new long[periodDays])[day] += rs.getLong(4);
+            }
+        }, params(userIds, Date.valueOf(start), Date.valueOf(end)));
+
+        for (Long userId : userIds) {
+            BitSet days = recordedDays.get(userId);
+            results.put(userId, HabitScoreCalculator.calculate(new HabitScoreCalculator.Input(
+                    budgets.getOrDefault(userId, 0L),
+                    dailyExpense.getOrDefault(userId, new long[periodDays]),
+                    days != null ? days.cardinality() : 0,
+                    categoryExpense.getOrDefault(userId, Map.of()))));
+        }
+        return results;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int scoreAndSave(List<Long> userIds, YearMonth month, LocalDate asOf) {
+        Map<Long, HabitScoreCalculator.Result> results = score(userIds, month, asOf);
+        int scoreMonth = MonthlyRollup.monthKey(month.atDay(1));
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Map.Entry<Long, HabitScoreCalculator.Result>> rows = new ArrayList<>(results.entrySet());
+
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows, rows.size(), (ps, row) -> {
+            HabitScoreCalculator.Result r = row.getValue();
+            ps.setLong(1, row.getKey());
+            ps.setInt(2, scoreMonth);
+            ps.setInt(3, r.score());
+            ps.setInt(4, r.budgetScore());
+            ps.setInt(5, r.balanceScore());
+            ps.setInt(6, r.recordScore());
+            ps.setInt(7, r.stabilityScore());
+            ps.setInt(8, r.recordedDays());
+            ps.setDate(9, Date.valueOf(asOf));
+            ps.setTimestamp(10, now);
+        });
+        // 분석 API 의 ETag 가 새 점수를 반영하도록 같은 트랜잭션에서 버전을 올림
+        dataVersionService.bumpAll(results.keySet());
+        return rows.size();
+    }
+
+    // IN 목록의 사용자 ID 다음에 나머지 조건 값
+    private static Object[] params(List<Long> userIds, Object... rest) {
+        Object[] params = new Object[userIds.size() + rest.length];
+        for (int i = 0; i < userIds.size(); i++) {
+            params[i] = userIds.get(i);
+        }
+        System.arraycopy(rest, 0, params, userIds.size(), rest.length);
+        return params;
+    }
+}
@@ -2,6 +2,7 @@ package com.example.yozi.category.entity;
 
 import com.example.yozi.category.entity.enums.CategoryType;
 import com.example.yozi.category.repository.CategoryRepository;
+import com.example.yozi.category.service.CategoryRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Profile;
@@ -13,6 +14,7 @@ import org.springframework.stereotype.Component;
 public class CategoryInitializer implements CommandLineRunner {
 
     private final CategoryRepository categoryRepository;
+    private final CategoryRegistry categoryRegistry;
 
     @Override
     public void run(String... args) {
@@ -21,6 +23,7 @@ public class CategoryInitializer implements CommandLineRunner {
                     categoryRepository.save(new Category(type, getDisplayName(type)))
             );
         }
+        categoryRegistry.refresh();
     }
 
     private String getDisplayName(CategoryType type) {
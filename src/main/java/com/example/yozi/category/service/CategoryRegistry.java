@@ -0,0 +1,88 @@
+package com.example.yozi.category.service;
+
+import com.example.yozi.category.entity.Category;
+import com.example.yozi.category.entity.enums.CategoryType;
+import com.example.yozi.category.repository.CategoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+/**
+ * category 테이블(CategoryType 과 1:1, 8행)을 메모리에 올려두고 id/타입으로 바로 조회합니다.
+ * 스냅샷은 불변이며 refresh() 호출 시 통째로 교체됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryRegistry {
+
+    private final CategoryRepository categoryRepository;
+
+    private volatile Snapshot snapshot;
+
+    private record Snapshot(Category[] byId, Category[] byType, List<Category> all, String etag) {
+    }
+
+    // CommandLineRunner(CategoryInitializer) 이후에 로드
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh();
+    }
+
+    public synchronized void refresh() {
+        List<Category> categories = categoryRepository.findAllByOrderByIdAsc();
+
+        int maxId = categories.stream().mapToInt(c -> c.getId().intValue()).max().orElse(0);
+        Category[] byId = new Category[maxId + 1];
+        Category[] byType = new Category[CategoryType.values().length];
+        CRC32 crc = new CRC32();
+
+        for (Category category : categories) {
+            byId[category.getId().intValue()] = category;
+            byType[category.getType().ordinal()] = category;
+            crc.update((category.getId() + ":" + category.getType() + ":" + category.getDisplayName() + ";")
+                    .getBytes(StandardCharsets.UTF_8));
+        }
+
+        String etag = "\"categories-" + Long.toHexString(crc.getValue()) + "\"";
+        snapshot = new Snapshot(byId, byType, List.copyOf(categories), etag);
+        log.info("카테고리 {}건 로드 (ETag {})", categories.size(), etag);
+    }
+
+    public Optional<Category> findById(Integer id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        Category[] byId = current().byId();
+        return id >= 0 && id < byId.length ? Optional.ofNullable(byId[id]) : Optional.empty();
+    }
+
+    public Optional<Category> findByType(CategoryType type) {
+        return type == null ? Optional.empty() : Optional.ofNullable(current().byType()[type.ordinal()]);
+    }
+
+    // ID 오름차순
+    public List<Category> getAll() {
+        return current().all();
+    }
+
+    public String getEtag() {
+        return current().etag();
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            refresh();
+            current = snapshot;
+        }
+        return current;
+    }
+}
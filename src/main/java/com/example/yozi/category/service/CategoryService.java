@@ -11,6 +11,7 @@ import org.springframework.stereotype.Service;
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final CategoryRegistry categoryRegistry;
 
     public void initializeCategories() {
         for (CategoryType type : CategoryType.values()) {
@@ -18,6 +19,7 @@ public class CategoryService {
                     categoryRepository.save(new Category(type, type.getDisplayName()))
             );
         }
+        categoryRegistry.refresh();
     }
 }
 
@@ -0,0 +1,50 @@
+package com.example.yozi.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 대시보드 부분 조회를 병렬로 실행하는 전용 실행기.
+ * <p>
+ * 부분 조회마다 DB 커넥션을 하나씩 쓰므로 동시 실행 수(yozi.dashboard.max-concurrency)는
+ * Hikari 풀 크기보다 작게 유지합니다. 가득 차면 작업을 거절하고, {@link com.example.yozi.budget.service.BudgetDashboardService}
+ * 는 거절된 부분을 비워서 응답합니다 (요청 스레드에서 실행하면 부분 제한 시간이 적용되지 않음).
+ * 요청의 SecurityContext 를 작업 스레드로 넘겨 레플리카 라우팅({@link ReplicaRoutingDataSource})이 사용자를 알 수 있게 하고,
+ * 요청의 SQL 문 카운터({@link StatementCounter})도 함께 넘깁니다.
+ */
+@Configuration
+public class DashboardExecutorConfig {
+
+    @Bean(name = "dashboardExecutor")
+    public TaskExecutor dashboardExecutor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                                          @Value("${yozi.dashboard.max-concurrency:6}") int maxConcurrency) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("dashboard-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(maxConcurrency);
+            executor.setRejectTasksWhenLimitReached(true);
+            executor.setTaskDecorator(DashboardExecutorConfig::decorate);
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("dashboard-");
+        executor.setCorePoolSize(maxConcurrency);
+        executor.setMaxPoolSize(maxConcurrency);
+        executor.setQueueCapacity(maxConcurrency * 4);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setTaskDecorator(DashboardExecutorConfig::decorate);
+        executor.initialize();
+        return executor;
+    }
+
+    private static Runnable decorate(Runnable task) {
+        return new DelegatingSecurityContextRunnable(StatementCounter.propagate(task));
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.yozi.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+// yozi-defaults.properties 는 가장 낮은 우선순위로 등록되어 외부 설정으로 덮어쓸 수 있음
+@Configuration
+@PropertySource("classpath:yozi-defaults.properties")
+public class DefaultPropertiesConfig {
+}
@@ -0,0 +1,87 @@
+package com.example.yozi.config;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 애플리케이션 지표 설정. Actuator 가 기본으로 주는 HTTP/JVM/Hikari/Hibernate 지표 외에
+ * <ul>
+ *     <li>@Timed 가 붙은 서비스 메서드 타이머 (yozi.service)</li>
+ *     <li>요청당 SQL 문 수 (yozi.http.statements, {@link StatementCountFilter})</li>
+ *     <li>커넥션 풀 포화도 (yozi.datasource.pool.saturation = 사용 중 / 최대, 레플리카 풀 포함)</li>
+ * </ul>
+ * 을 추가합니다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    // JPA, JdbcTemplate, Flyway 모두 dataSource 빈을 쓰므로 여기만 감쌈 (레플리카 라우팅 사용 시에도 dataSource 가 최상위)
+    @Bean
+    public static BeanPostProcessor statementCountingDataSource() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || !"dataSource".equals(beanName)) {
+                    return bean;
+                }
+                return ProxyDataSourceBuilder.create(dataSource)
+                        .name("statement-count")
+                        .listener(new StatementCounter())
+                        .build();
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder connectionPoolSaturation(ObjectProvider<DataSource> dataSources,
+                                                ObjectProvider<ReplicaDataSourceConfig.ReplicaPools> replicaPools) {
+        return registry -> {
+            // LazyConnectionDataSourceProxy 등으로 감싼 primary 도 한 번만
+            Set<HikariDataSource> pools = Collections.newSetFromMap(new IdentityHashMap<>());
+            dataSources.orderedStream()
+                    .map(dataSource -> DataSourceUnwrapper.unwrap(dataSource, HikariConfigMXBean.class, HikariDataSource.class))
+                    .filter(Objects::nonNull)
+                    .forEach(pools::add);
+            replicaPools.ifAvailable(replicas -> pools.addAll(replicas.pools()));
+
+            for (HikariDataSource pool : pools) {
+                // 풀 이름은 시작 시에 정해지므로 설정하지 않은 primary 는 "primary"
+                Gauge.builder("yozi.datasource.pool.saturation", pool, MetricsConfig::saturation)
+                        .description("Active connections divided by maximum pool size")
+                        .tag("pool", pool.getPoolName() != null ? pool.getPoolName() : "primary")
+                        .register(registry);
+            }
+        };
+    }
+
+    // 풀이 아직 시작되지 않았으면 NaN
+    private static double saturation(HikariDataSource pool) {
+        HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+        if (mxBean == null || pool.getMaximumPoolSize() <= 0) {
+            return Double.NaN;
+        }
+        return (double) mxBean.getActiveConnections() / pool.getMaximumPoolSize();
+    }
+}
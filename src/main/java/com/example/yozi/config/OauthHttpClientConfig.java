@@ -0,0 +1,55 @@
+package com.example.yozi.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+/**
+ * 카카오/구글 OAuth 호출용 HTTP 클라이언트.
+ * <ul>
+ *     <li>JDK HttpClient 하나를 공유해 커넥션(keep-alive)과 TLS 세션을 재사용합니다.
+ *         유휴 커넥션 유지 시간은 JVM 옵션 -Djdk.httpclient.keepalive.timeout(초) 로 조정합니다.</li>
+ *     <li>연결 타임아웃은 공통(oauth.http.connect-timeout), 응답 타임아웃은 제공자별(oauth.kakao|google.read-timeout)입니다.</li>
+ *     <li>블로킹 호출 중 가상 스레드를 pinning 하지 않으므로 가상 스레드 모드에서도 그대로 사용할 수 있습니다.</li>
+ * </ul>
+ */
+@Configuration
+public class OauthHttpClientConfig {
+
+    @Bean(destroyMethod = "close")
+    public HttpClient oauthHttpClient(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                                      @Value("${oauth.http.connect-timeout:3s}") Duration connectTimeout) {
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(connectTimeout);
+        if (virtualThreads) {
+            // 응답 처리(비동기 완료 단계)도 가상 스레드에서 실행
+            builder.executor(Executors.newVirtualThreadPerTaskExecutor());
+        }
+        return builder.build();
+    }
+
+    @Bean
+    public RestTemplate kakaoRestTemplate(HttpClient oauthHttpClient,
+                                          @Value("${oauth.kakao.read-timeout:5s}") Duration readTimeout) {
+        return restTemplate(oauthHttpClient, readTimeout);
+    }
+
+    @Bean
+    public RestTemplate googleRestTemplate(HttpClient oauthHttpClient,
+                                           @Value("${oauth.google.read-timeout:5s}") Duration readTimeout) {
+        return restTemplate(oauthHttpClient, readTimeout);
+    }
+
+    public static RestTemplate restTemplate(HttpClient httpClient, Duration readTimeout) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeout);
+        return new RestTemplate(requestFactory);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.yozi.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 마지막 쓰기 커밋 시각. 쓰기 직후 yozi.datasource.replica.read-your-writes-window 동안은
+ * 그 사용자의 읽기를 레플리카 대신 primary 로 보내 복제 지연 때문에 방금 쓴 데이터가 안 보이는 일을 막습니다.
+ * 인스턴스 메모리에만 있으므로 여러 인스턴스 환경에서는 같은 사용자의 요청이 같은 인스턴스로 가야 보장됩니다.
+ */
+@Component
+public class ReadYourWritesTracker {
+
+    private static final int MAX_SIZE = 100_000;
+
+    private final ConcurrentHashMap<Long, Long> lastWriteNanos = new ConcurrentHashMap<>();
+    private final long windowNanos;
+
+    public ReadYourWritesTracker(@Value("${yozi.datasource.replica.read-your-writes-window:5s}") Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    public void recordWrite(Long userId) {
+        long now = System.nanoTime();
+        if (lastWriteNanos.size() >= MAX_SIZE) {
+            lastWriteNanos.values().removeIf(written -> now - written > windowNanos);
+        }
+        lastWriteNanos.put(userId, now);
+    }
+
+    public boolean wroteRecently(Long userId) {
+        Long written = lastWriteNanos.get(userId);
+        return written != null && System.nanoTime() - written <= windowNanos;
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.yozi.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 전용 트랜잭션을 레플리카로 보내는 DataSource (yozi.datasource.replica.enabled=true 일 때만).
+ * <pre>
+ * yozi.datasource.replica.enabled=true
+ * yozi.datasource.replica.urls=jdbc:mysql://replica-1/yozi,jdbc:mysql://replica-2/yozi
+ * yozi.datasource.replica.username=...   (생략하면 spring.datasource.username)
+ * yozi.datasource.replica.password=...
+ * yozi.datasource.replica.read-your-writes-window=5s
+ * </pre>
+ * LazyConnectionDataSourceProxy 는 실제 커넥션을 첫 SQL 까지 미루므로, @Transactional(readOnly = true) 가
+ * 커넥션을 읽기 전용으로 표시한 뒤 {@link ReplicaRoutingDataSource} 가 대상을 고릅니다. 그 외는 모두 primary 입니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "yozi.datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    // 레플리카 커넥션 풀 (종료 시 close)
+    public record ReplicaPools(List<HikariDataSource> pools) implements AutoCloseable {
+        @Override
+        public void close() {
+            pools.forEach(HikariDataSource::close);
+        }
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaPools replicaPools(HikariDataSource primaryDataSource,
+                                     DataSourceProperties properties,
+                                     @Value("${yozi.datasource.replica.urls}") List<String> urls,
+                                     @Value("${yozi.datasource.replica.username:}") String username,
+                                     @Value("${yozi.datasource.replica.password:}") String password,
+                                     ObjectProvider<MeterRegistry> meterRegistry) {
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource replica = new HikariDataSource();
+            primaryDataSource.copyStateTo(replica);
+            replica.setPoolName("replica-" + i);
+            replica.setJdbcUrl(urls.get(i).trim());
+            replica.setUsername(username.isEmpty() ? properties.determineUsername() : username);
+            replica.setPassword(password.isEmpty() ? properties.determinePassword() : password);
+            replica.setReadOnly(true);
+            // primary 는 Actuator 가 hikaricp.* 지표를 붙이지만 레플리카 풀은 빈이 아니므로 직접
+            meterRegistry.ifAvailable(registry -> replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+            replicas.add(replica);
+        }
+        return new ReplicaPools(replicas);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource,
+                                 ReplicaPools replicaPools,
+                                 ReadYourWritesTracker readYourWritesTracker,
+                                 ObjectProvider<MeterRegistry> meterRegistry) {
+        ReplicaRoutingDataSource readOnly = new ReplicaRoutingDataSource(primaryDataSource, List.copyOf(replicaPools.pools()),
+                readYourWritesTracker, meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primaryDataSource);
+        proxy.setReadOnlyDataSource(readOnly);
+        return proxy;
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.yozi.config;
+
+import com.example.yozi.jwt.UserPrincipal;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 커넥션의 대상 선택 (LazyConnectionDataSourceProxy 의 readOnlyDataSource 로만 사용).
+ * 현재 사용자가 최근에 쓰기를 했으면 primary, 아니면 레플리카를 돌아가며 선택합니다.
+ * 선택 결과는 yozi.datasource.route{target, reason} 카운터로 남습니다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private final List<String> replicaKeys = new ArrayList<>();
+    private final Map<String, Counter> replicaCounters = new HashMap<>();
+    private final Counter readYourWritesCounter;
+    private final ReadYourWritesTracker tracker;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas,
+                                    ReadYourWritesTracker tracker, MeterRegistry meterRegistry) {
+        if (replicas.isEmpty()) {
+            throw new IllegalArgumentException("레플리카가 하나 이상 필요합니다");
+        }
+        this.tracker = tracker;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            String key = "replica-" + i;
+            targets.put(key, replicas.get(i));
+            replicaKeys.add(key);
+            replicaCounters.put(key, route(meterRegistry, key, "read"));
+        }
+        this.readYourWritesCounter = route(meterRegistry, PRIMARY, "read-your-writes");
+
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Long userId = currentUserId();
+        if (userId != null && tracker.wroteRecently(userId)) {
+            readYourWritesCounter.increment();
+            return PRIMARY;
+        }
+        String key = replicaKeys.get(Math.floorMod(next.getAndIncrement(), replicaKeys.size()));
+        replicaCounters.get(key).increment();
+        return key;
+    }
+
+    // 요청 스레드 (또는 SecurityContext 를 넘겨받은 작업 스레드) 의 인증 사용자
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.getId();
+        }
+        return null;
+    }
+
+    private static Counter route(MeterRegistry meterRegistry, String target, String reason) {
+        return Counter.builder("yozi.datasource.route")
+                .description("읽기 전용 커넥션이 연결된 대상")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
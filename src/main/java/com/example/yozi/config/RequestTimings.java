@@ -0,0 +1,114 @@
+package com.example.yozi.config;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 요청 하나의 구간별 소요 시간 (Server-Timing 헤더와 느린 요청 로그에 사용).
+ * yozi.server-timing.enabled=true 일 때만 {@link ServerTimingFilter} 가 요청 스레드에 열어 두며,
+ * 꺼져 있으면 {@link #current()} 가 null 이라 JWT 필터 등의 기록 코드는 ThreadLocal 조회 한 번으로 끝납니다.
+ * <ul>
+ *     <li>service 는 가장 바깥 @Service 호출 시간에서 그 안의 db 시간을 뺀 값입니다.</li>
+ *     <li>요청 스레드에서 실행된 것만 기록합니다. 대시보드 병렬 조회처럼 다른 스레드에서 실행된 조회는 service 에 포함됩니다.</li>
+ * </ul>
+ */
+public final class RequestTimings {
+
+    public enum Phase {
+        AUTH("auth"),
+        USER("user"),
+        DB("db"),
+        SERVICE("service"),
+        SERIALIZATION("serialization");
+
+        private final String metric;
+
+        Phase(String metric) {
+            this.metric = metric;
+        }
+    }
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+    private static final Phase[] PHASES = Phase.values();
+
+    private final long startedNanos = System.nanoTime();
+    private final long[] phaseNanos = new long[PHASES.length];
+    // 리포지토리 메서드별 {호출 수, 소요 시간}
+    private final Map<String, long[]> repositoryCalls = new LinkedHashMap<>();
+    private int repositoryCount;
+    private int serviceDepth;
+
+    /**
+     * @return 기록 중인 요청의 타이밍, 꺼져 있거나 요청 스레드가 아니면 null
+     */
+    public static RequestTimings current() {
+        return CURRENT.get();
+    }
+
+    static RequestTimings start() {
+        RequestTimings timings = new RequestTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    static void stop() {
+        CURRENT.remove();
+    }
+
+    public void add(Phase phase, long nanos) {
+        phaseNanos[phase.ordinal()] += nanos;
+    }
+
+    void addRepositoryCall(String name, long nanos) {
+        add(Phase.DB, nanos);
+        repositoryCount++;
+        long[] call = repositoryCalls.computeIfAbsent(name, k -> new long[2]);
+        call[0]++;
+        call[1] += nanos;
+    }
+
+    // 중첩된 서비스 호출은 바깥 호출에 포함되므로 가장 바깥 호출만 기록
+    boolean enterService() {
+        return serviceDepth++ == 0;
+    }
+
+    void exitService() {
+        serviceDepth--;
+    }
+
+    long nanos(Phase phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+
+    long elapsedNanos() {
+        return System.nanoTime() - startedNanos;
+    }
+
+    /**
+     * Server-Timing 헤더 값. 예: auth;dur=0.21, user;dur=0.02, db;dur=3.40;desc="4 calls", service;dur=0.85, serialization;dur=0.30, total;dur=5.10
+     */
+    String toHeader() {
+        StringBuilder header = new StringBuilder(160);
+        for (Phase phase : PHASES) {
+            header.append(phase.metric).append(";dur=").append(millis(phaseNanos[phase.ordinal()]));
+            if (phase == Phase.DB) {
+                header.append(";desc=\"").append(repositoryCount).append(" calls\"");
+            }
+            header.append(", ");
+        }
+        return header.append("total;dur=").append(millis(elapsedNanos())).toString();
+    }
+
+    // 느린 요청 로그용: 헤더 값 + 리포지토리 메서드별 호출 수와 시간
+    String describe() {
+        StringBuilder description = new StringBuilder(toHeader());
+        repositoryCalls.forEach((name, call) -> description.append("\n  ").append(name)
+                .append(" x").append(call[0]).append(' ').append(millis(call[1])).append("ms"));
+        return description.toString();
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.2f", nanos / 1_000_000.0);
+    }
+}
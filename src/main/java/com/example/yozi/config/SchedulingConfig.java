@@ -0,0 +1,10 @@
+package com.example.yozi.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Scheduled 작업 (HabitScoreBatch). 가상 스레드 모드에서는 taskScheduler 도 가상 스레드를 사용
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
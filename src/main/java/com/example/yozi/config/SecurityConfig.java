@@ -1,17 +1,28 @@
 package com.example.yozi.config;
 
 import com.example.yozi.jwt.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer; // WebSecurityCustomizer 임포트
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+
 @Configuration
 @EnableWebSecurity
 @RequiredArgsConstructor
@@ -28,6 +39,35 @@ public class SecurityConfig {
         );
     }
 
+    // /actuator/** 는 JWT 대신 스크레이퍼용 HTTP Basic 계정 (health 만 공개)
+    @Bean
+    @Order(1)
+    public SecurityFilterChain actuatorSecurityFilterChain(HttpSecurity http,
+                                                           @Value("${yozi.actuator.username:prometheus}") String username,
+                                                           @Value("${yozi.actuator.password:}") String password) throws Exception {
+        AuthenticationManager scraperAuthentication = authentication -> {
+            String presented = String.valueOf(authentication.getCredentials());
+            if (!password.isEmpty() && username.equals(authentication.getName())
+                    && MessageDigest.isEqual(password.getBytes(StandardCharsets.UTF_8), presented.getBytes(StandardCharsets.UTF_8))) {
+                return UsernamePasswordAuthenticationToken.authenticated(username, null,
+                        List.of(new SimpleGrantedAuthority("ROLE_METRICS")));
+            }
+            throw new BadCredentialsException("잘못된 Actuator 계정입니다.");
+        };
+
+        http
+                .securityMatcher("/actuator/**")
+                .csrf(csrf -> csrf.disable())
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authenticationManager(scraperAuthentication)
+                .httpBasic(Customizer.withDefaults())
+                .authorizeHttpRequests(auth -> auth
+                        .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                        .anyRequest().hasRole("METRICS")
+                );
+        return http.build();
+    }
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
@@ -35,6 +75,10 @@ public class SecurityConfig {
                 .cors(Customizer.withDefaults())
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // 비동기 응답(내보내기 StreamingResponseBody) 의 ASYNC 디스패치는 원래 요청에서 이미 인가됨.
+                        // JWT 필터는 ASYNC 디스패치에서 다시 돌지 않으므로 여기서 막으면 응답이 커밋된 뒤 거부됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // Swagger 관련 경로 인증 없이 허용
                         .requestMatchers(
                                 "/swagger-ui/**",
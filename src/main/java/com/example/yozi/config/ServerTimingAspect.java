@@ -0,0 +1,66 @@
+package com.example.yozi.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * 리포지토리 호출(db)과 서비스 호출(service) 시간을 {@link RequestTimings} 에 기록합니다.
+ * 리포지토리는 메서드별로도 남겨 느린 요청 로그에서 어떤 조회가 느렸는지 볼 수 있게 합니다.
+ */
+@Aspect
+public class ServerTimingAspect {
+
+    // Spring Data 프록시의 대상 클래스 → 이 애플리케이션의 리포지토리 인터페이스 이름
+    private static final ClassValue<String> REPOSITORY_NAMES = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            for (Class<?> candidate : type.getInterfaces()) {
+                if (candidate.getName().startsWith("com.example.yozi.")) {
+                    return candidate.getSimpleName();
+                }
+            }
+            return type.getSimpleName();
+        }
+    };
+
+    // getReferenceById 는 SQL 없이 프록시만 만들므로 제외 (@CurrentUser 는 user 구간으로 따로 기록)
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..)) && !execution(* *.getReferenceById(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        RequestTimings timings = RequestTimings.current();
+        if (timings == null) {
+            return joinPoint.proceed();
+        }
+        long started = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            timings.addRepositoryCall(REPOSITORY_NAMES.get(joinPoint.getTarget().getClass()) + "."
+                    + joinPoint.getSignature().getName(), System.nanoTime() - started);
+        }
+    }
+
+    @Around("@within(org.springframework.stereotype.Service)")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        RequestTimings timings = RequestTimings.current();
+        if (timings == null) {
+            return joinPoint.proceed();
+        }
+        if (!timings.enterService()) {
+            try {
+                return joinPoint.proceed();
+            } finally {
+                timings.exitService();
+            }
+        }
+        long started = System.nanoTime();
+        long dbBefore = timings.nanos(RequestTimings.Phase.DB);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            timings.exitService();
+            long db = timings.nanos(RequestTimings.Phase.DB) - dbBefore;
+            timings.add(RequestTimings.Phase.SERVICE, System.nanoTime() - started - db);
+        }
+    }
+}
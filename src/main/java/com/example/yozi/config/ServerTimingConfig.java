@@ -0,0 +1,55 @@
+package com.example.yozi.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 요청별 구간 시간을 Server-Timing 헤더로 내보냅니다 (yozi.server-timing.enabled=true 일 때만).
+ * <pre>
+ * Server-Timing: auth;dur=0.21, user;dur=0.02, db;dur=3.40;desc="4 calls", service;dur=0.85, serialization;dur=0.30, total;dur=5.10
+ * </pre>
+ * 꺼져 있으면 필터, 애스펙트, 컨버터가 등록되지 않고 JWT 필터와 @CurrentUser 의 기록 코드만 남습니다
+ * (비용은 RequestTimingsBenchmark 참고). 켜면 JSON 응답을 메모리에 직렬화한 뒤 보냅니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "yozi.server-timing.enabled", havingValue = "true")
+public class ServerTimingConfig implements WebMvcConfigurer {
+
+    // auth 구간을 재기 위해 Spring Security 필터 체인보다 먼저
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(
+            @Value("${yozi.server-timing.slow-threshold:1s}") Duration slowThreshold,
+            @Value("${yozi.server-timing.slow-sample-rate:0.1}") double slowSampleRate) {
+        FilterRegistrationBean<ServerTimingFilter> registration =
+                new FilterRegistrationBean<>(new ServerTimingFilter(slowThreshold, slowSampleRate));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+
+    @Bean
+    public ServerTimingAspect serverTimingAspect() {
+        return new ServerTimingAspect();
+    }
+
+    // 기본 Jackson 컨버터를 같은 ObjectMapper 를 쓰는 ServerTimingJsonConverter 로 교체
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i).getClass() == MappingJackson2HttpMessageConverter.class) {
+                ObjectMapper objectMapper = ((MappingJackson2HttpMessageConverter) converters.get(i)).getObjectMapper();
+                converters.set(i, new ServerTimingJsonConverter(objectMapper));
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.yozi.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 요청마다 {@link RequestTimings} 를 열고, 응답이 커밋되기 직전(본문을 처음 쓸 때)에 Server-Timing 헤더를 붙입니다.
+ * JSON 본문은 {@link ServerTimingJsonConverter} 가 먼저 직렬화해 두므로 serialization 도 헤더에 들어갑니다.
+ * yozi.server-timing.slow-threshold 를 넘긴 요청은 yozi.server-timing.slow-sample-rate 비율로 같은 내역을 로그에 남깁니다.
+ */
+@Slf4j
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    static final String HEADER = "Server-Timing";
+
+    private final long slowThresholdNanos;
+    private final double slowSampleRate;
+
+    public ServerTimingFilter(Duration slowThreshold, double slowSampleRate) {
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.slowSampleRate = slowSampleRate;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestTimings timings = RequestTimings.start();
+        TimingResponse timingResponse = new TimingResponse(response, timings);
+        try {
+            filterChain.doFilter(request, timingResponse);
+        } finally {
+            RequestTimings.stop();
+            // 본문 없는 응답은 아직 커밋 전이므로 여기서 붙임
+            timingResponse.writeHeader();
+
+            long elapsed = timings.elapsedNanos();
+            if (elapsed >= slowThresholdNanos && ThreadLocalRandom.current().nextDouble() < slowSampleRate) {
+                log.warn("느린 요청 {} {} ({}ms): {}", request.getMethod(), request.getRequestURI(),
+                        elapsed / 1_000_000, timings.describe());
+            }
+        }
+    }
+
+    // 헤더는 커밋 전에만 추가할 수 있으므로, 본문/리다이렉트/에러로 커밋되기 직전에 한 번 붙임
+    private static class TimingResponse extends HttpServletResponseWrapper {
+
+        private final RequestTimings timings;
+        private boolean headerWritten;
+
+        TimingResponse(HttpServletResponse response, RequestTimings timings) {
+            super(response);
+            this.timings = timings;
+        }
+
+        void writeHeader() {
+            if (!headerWritten && !isCommitted()) {
+                headerWritten = true;
+                setHeader(HEADER, timings.toHeader());
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeader();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeader();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeader();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeader();
+            super.sendRedirect(location);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeader();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeader();
+            super.sendError(sc, msg);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.yozi.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.lang.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+/**
+ * 기록 중인 요청이면 JSON 을 메모리에 먼저 직렬화해 serialization 시간을 잰 뒤 응답에 씁니다.
+ * 응답 스트림을 여는 시점이 직렬화 이후가 되므로 Server-Timing 헤더에 serialization 이 포함됩니다.
+ */
+public class ServerTimingJsonConverter extends MappingJackson2HttpMessageConverter {
+
+    public ServerTimingJsonConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, @Nullable Type type, HttpOutputMessage outputMessage) throws IOException {
+        RequestTimings timings = RequestTimings.current();
+        if (timings == null) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+
+        long started = System.nanoTime();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(4 * 1024);
+        super.writeInternal(object, type, new HttpOutputMessage() {
+            @Override
+            public OutputStream getBody() {
+                return buffer;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return outputMessage.getHeaders();
+            }
+        });
+        timings.add(RequestTimings.Phase.SERIALIZATION, System.nanoTime() - started);
+        buffer.writeTo(outputMessage.getBody());
+    }
+}
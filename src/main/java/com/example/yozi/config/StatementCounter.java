@@ -0,0 +1,61 @@
+package com.example.yozi.config;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 요청마다 실행한 SQL 문 수를 셉니다. 애플리케이션 DataSource 를 datasource-proxy 로 감싸 ({@link MetricsConfig})
+ * JPA 와 JdbcTemplate 으로 실행한 SQL 을 모두 셉니다. 배치(executeBatch) 는 파라미터 건수와 상관없이 1문입니다.
+ * {@link StatementCountFilter} 가 요청 시작 시 카운터를 열고 끝날 때 기록합니다.
+ * 대시보드처럼 요청을 다른 스레드로 나눠 실행할 때는 {@link #propagate(Runnable)} 로 같은 카운터를 넘깁니다.
+ */
+public class StatementCounter implements QueryExecutionListener {
+
+    private static final ThreadLocal<AtomicInteger> CURRENT = new ThreadLocal<>();
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        AtomicInteger count = CURRENT.get();
+        if (count != null) {
+            count.addAndGet(queryInfoList.size());
+        }
+    }
+
+    static AtomicInteger start() {
+        AtomicInteger count = new AtomicInteger();
+        CURRENT.set(count);
+        return count;
+    }
+
+    static void stop() {
+        CURRENT.remove();
+    }
+
+    public static Runnable propagate(Runnable task) {
+        AtomicInteger count = CURRENT.get();
+        if (count == null) {
+            return task;
+        }
+        return () -> {
+            AtomicInteger previous = CURRENT.get();
+            CURRENT.set(count);
+            try {
+                task.run();
+            } finally {
+                if (previous != null) {
+                    CURRENT.set(previous);
+                } else {
+                    CURRENT.remove();
+                }
+            }
+        };
+    }
+}
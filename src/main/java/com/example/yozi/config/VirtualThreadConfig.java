@@ -0,0 +1,54 @@
+package com.example.yozi.config;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * 가상 스레드 모드 (spring.threads.virtual.enabled=true, 기본값 false).
+ * <p>
+ * 켜면 Spring Boot 가 Tomcat 요청 처리, @Async(applicationTaskExecutor), @Scheduled(taskScheduler) 를
+ * 가상 스레드로 실행하고, OAuth 클라이언트({@link OauthHttpClientConfig})도 가상 스레드 실행기를 사용합니다.
+ * <p>
+ * Hikari 커넥션 풀 크기 가이드:
+ * <ul>
+ *     <li>가상 스레드는 요청 수만큼 늘어나지만 DB 커넥션은 늘지 않습니다. 풀 크기를 스레드 수에 맞춰 키우지 말고
+ *         DB 가 감당할 수 있는 크기 (대략 DB 코어 수 × 2 + 디스크 수, 보통 10~20) 로 유지합니다.</li>
+ *     <li>대신 spring.datasource.hikari.connection-timeout 을 2~5초로 낮춰, 커넥션을 기다리는 요청이
+ *         무한히 쌓이지 않고 빠르게 실패하도록 합니다.</li>
+ *     <li>분석 API 처럼 쿼리가 여러 번인 요청은 한 번에 하나의 커넥션만 쓰도록 (트랜잭션 안에서 순차 실행) 유지합니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Configuration
+public class VirtualThreadConfig {
+
+    private static final int DEFAULT_HIKARI_POOL_SIZE = 10;
+    private static final long DEFAULT_HIKARI_CONNECTION_TIMEOUT_MS = 30_000;
+
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public ApplicationListener<ApplicationReadyEvent> virtualThreadPoolCheck(DataSource dataSource) {
+        return event -> {
+            log.info("가상 스레드 모드로 실행합니다 (Tomcat, @Async, @Scheduled, OAuth HTTP 클라이언트)");
+            // dataSource 는 SQL 문 수를 세는 프록시 등으로 감싸져 있으므로 풀을 꺼내서 확인
+            HikariDataSource hikari = DataSourceUnwrapper.unwrap(dataSource, HikariConfigMXBean.class, HikariDataSource.class);
+            if (hikari != null
+                    && hikari.getMaximumPoolSize() == DEFAULT_HIKARI_POOL_SIZE
+                    && hikari.getConnectionTimeout() == DEFAULT_HIKARI_CONNECTION_TIMEOUT_MS) {
+                log.warn("Hikari 가 기본 설정(풀 {}개, 대기 {}ms)입니다. 가상 스레드 모드에서는 connection-timeout 을 낮춰 "
+                        + "커넥션 대기가 쌓이지 않게 하세요 (VirtualThreadConfig 참고).",
+                        DEFAULT_HIKARI_POOL_SIZE, DEFAULT_HIKARI_CONNECTION_TIMEOUT_MS);
+            }
+        };
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.yozi.jwt;
+
+import java.lang.annotation.*;
+
+/**
+ * 인증된 사용자를 User 로 주입합니다. users 테이블을 조회하지 않는 지연 참조(프록시)이며,
+ * id 외의 필드에 접근할 때 처음으로 SELECT 됩니다.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CurrentUser {
+}
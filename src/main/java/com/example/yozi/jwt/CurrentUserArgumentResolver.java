@@ -0,0 +1,46 @@
+package com.example.yozi.jwt;
+
+import com.example.yozi.config.RequestTimings;
+import com.example.yozi.user.entity.User;
+import com.example.yozi.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+// @CurrentUser User 파라미터를 JWT 의 userId 로 만든 지연 참조로 채움 (요청마다 하던 users 조회 제거)
+@Component
+@RequiredArgsConstructor
+public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final UserRepository userRepository;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(CurrentUser.class)
+                && User.class.isAssignableFrom(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof UserPrincipal userPrincipal)) {
+            throw new AuthenticationCredentialsNotFoundException("인증된 사용자 정보가 없습니다.");
+        }
+        RequestTimings timings = RequestTimings.current();
+        if (timings == null) {
+            return userRepository.getReferenceById(userPrincipal.getId());
+        }
+        long started = System.nanoTime();
+        User user = userRepository.getReferenceById(userPrincipal.getId());
+        timings.add(RequestTimings.Phase.USER, System.nanoTime() - started);
+        return user;
+    }
+}
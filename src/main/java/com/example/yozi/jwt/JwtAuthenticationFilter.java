@@ -2,20 +2,17 @@
 
 package com.example.yozi.jwt;
 
+import com.example.yozi.config.RequestTimings;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -24,62 +21,54 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.security.Key;
 import java.util.Collections;
+import java.util.Date;
 import java.util.Enumeration; // Enumeration 임포트
 import java.util.List;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    @Value("${jwt.secret}")
-    private String secretKey;
+    private static final List<SimpleGrantedAuthority> USER_AUTHORITIES =
+            Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"));
 
-    private Key getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
+    private final JwtKeyHolder jwtKeyHolder;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
-        log.info("--- JWT Filter: Processing request for URI: {} ---", request.getRequestURI());
+        if (log.isDebugEnabled()) {
+            log.debug("--- JWT Filter: Processing request for URI: {} ---", request.getRequestURI());
 
-        // 모든 요청 헤더를 로깅합니다. (디버깅 목적)
-        Enumeration<String> headerNames = request.getHeaderNames();
-        while (headerNames.hasMoreElements()) {
-            String headerName = headerNames.nextElement();
-            log.info("Header: {} = {}", headerName, request.getHeader(headerName));
+            // 모든 요청 헤더를 로깅합니다. (디버깅 목적)
+            Enumeration<String> headerNames = request.getHeaderNames();
+            while (headerNames.hasMoreElements()) {
+                String headerName = headerNames.nextElement();
+                log.debug("Header: {} = {}", headerName, request.getHeader(headerName));
+            }
+            log.debug("--- End of Headers ---");
         }
-        log.info("--- End of Headers ---");
+
+        // Server-Timing auth 구간 (꺼져 있으면 timings 는 null)
+        RequestTimings timings = RequestTimings.current();
+        long started = timings != null ? System.nanoTime() : 0L;
 
         String token = resolveToken(request); // 요청 헤더에서 JWT 토큰 추출
-        log.info("JWT Filter: Extracted token (first 20 chars): {}", (token != null && token.length() > 20) ? token.substring(0, 20) + "..." : token);
 
         if (token != null) {
             try {
-                Claims claims = Jwts.parserBuilder()
-                        .setSigningKey(getSigningKey())
-                        .build()
-                        .parseClaimsJws(token)
-                        .getBody();
-
-                Long userId = claims.get("userId", Long.class);
-                String socialId = claims.get("socialId", String.class);
-                String nickname = claims.get("nickname", String.class);
-
-                UserPrincipal userPrincipal = new UserPrincipal(
-                        userId,
-                        socialId,
-                        nickname,
-                        Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
-                );
+                UserPrincipal userPrincipal = verifiedTokenCache.get(token);
+                if (userPrincipal == null) {
+                    userPrincipal = verify(token);
+                }
 
                 Authentication authentication = new UsernamePasswordAuthenticationToken(userPrincipal, null, userPrincipal.getAuthorities());
                 SecurityContextHolder.getContext().setAuthentication(authentication);
-                log.info("JWT Filter: Authentication successful for user ID: {}", userId);
+                log.debug("JWT Filter: Authentication successful for user ID: {}", userPrincipal.getId());
 
             } catch (SecurityException | MalformedJwtException e) {
                 log.warn("잘못된 JWT 서명입니다: {}", e.getMessage());
@@ -98,11 +87,34 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 // response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "Internal server error during JWT processing");
             }
         } else {
-            log.info("JWT Filter: No token found in Authorization header.");
+            log.debug("JWT Filter: No token found in Authorization header.");
+        }
+        if (timings != null) {
+            timings.add(RequestTimings.Phase.AUTH, System.nanoTime() - started);
         }
         filterChain.doFilter(request, response);
     }
 
+    // 서명/만료 검증 후 만료 시각까지 캐시
+    private UserPrincipal verify(String token) {
+        Claims claims = jwtKeyHolder.getParser()
+                .parseClaimsJws(token)
+                .getBody();
+
+        UserPrincipal userPrincipal = new UserPrincipal(
+                claims.get("userId", Long.class),
+                claims.get("socialId", String.class),
+                claims.get("nickname", String.class),
+                USER_AUTHORITIES
+        );
+
+        Date expiration = claims.getExpiration();
+        if (expiration != null) {
+            verifiedTokenCache.put(token, userPrincipal, expiration.getTime());
+        }
+        return userPrincipal;
+    }
+
     private String resolveToken(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
@@ -0,0 +1,33 @@
+package com.example.yozi.jwt;
+
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.Key;
+
+// jwt.secret 으로 만든 서명 키와 파서를 한 번만 생성해 공유 (JwtParser 는 불변이라 스레드 안전)
+@Component
+public class JwtKeyHolder {
+
+    private final Key signingKey;
+    private final JwtParser parser;
+
+    public JwtKeyHolder(@Value("${jwt.secret}") String secretKey) {
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+    }
+
+    public Key getSigningKey() {
+        return signingKey;
+    }
+
+    public JwtParser getParser() {
+        return parser;
+    }
+}
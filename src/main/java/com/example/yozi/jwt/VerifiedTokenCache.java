@@ -0,0 +1,69 @@
+package com.example.yozi.jwt;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서명 검증이 끝난 토큰 → UserPrincipal 캐시.
+ * 토큰의 만료 시각까지만 유효하며, 크기가 jwt.cache.max-size 를 넘으면 만료된 항목부터 정리합니다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private record Entry(UserPrincipal principal, long expiresAtMillis) {
+    }
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    public VerifiedTokenCache(@Value("${jwt.cache.max-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public UserPrincipal get(String token) {
+        Entry entry = entries.get(token);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAtMillis() <= System.currentTimeMillis()) {
+            entries.remove(token, entry);
+            return null;
+        }
+        return entry.principal();
+    }
+
+    public void put(String token, UserPrincipal principal, long expiresAtMillis) {
+        if (maxSize <= 0 || expiresAtMillis <= System.currentTimeMillis()) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            evict();
+        }
+        entries.put(token, new Entry(principal, expiresAtMillis));
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // 만료 항목 제거 후에도 가득 차 있으면 1/10 을 임의로 비움
+    private synchronized void evict() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.expiresAtMillis() <= now);
+
+        int excess = entries.size() - maxSize + Math.max(maxSize / 10, 1);
+        Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+        while (excess-- > 0 && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+}
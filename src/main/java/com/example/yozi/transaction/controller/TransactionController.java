@@ -1,20 +1,34 @@
 package com.example.yozi.transaction.controller;
 
-import com.example.yozi.jwt.UserPrincipal;
+import com.example.yozi.jwt.CurrentUser;
+import com.example.yozi.transaction.dto.ImportResultDto;
 import com.example.yozi.transaction.dto.TransactionDto;
+import com.example.yozi.transaction.dto.TransactionPageDto;
 import com.example.yozi.transaction.dto.TransactionResponseDto;
+import com.example.yozi.transaction.service.TransactionExportService;
+import com.example.yozi.transaction.service.TransactionImportService;
 import com.example.yozi.transaction.service.TransactionService;
 import com.example.yozi.user.entity.User;
-import com.example.yozi.user.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.time.LocalDate;
+import java.util.zip.GZIPOutputStream;
 
 @Tag(name = "Transaction", description = "가계부 거래 내역 API")
 @RestController
@@ -23,44 +37,36 @@ import java.util.List;
 public class TransactionController {
 
     private final TransactionService transactionService;
-    private final UserService userService;  // UserService 주입 추가
-
-    private User getUserFromPrincipal(UserPrincipal userPrincipal) {
-        return userService.findById(userPrincipal.getId())
-                .orElseThrow(() -> new RuntimeException("User not found with id: " + userPrincipal.getId()));
-    }
+    private final TransactionExportService transactionExportService;
+    private final TransactionImportService transactionImportService;
 
+    @Operation(summary = "가게부 내역 조회",
+            description = "현재 인증된 사용자의 가게부 내역을 최신순으로 조회합니다. 응답의 next 를 cursor 로 넘기면 다음 페이지를 조회합니다.")
     @GetMapping(params = "!type")
-    public ResponseEntity<List<TransactionResponseDto>> getAllByUser(@AuthenticationPrincipal UserPrincipal userPrincipal) {
-        User user = getUserFromPrincipal(userPrincipal);
-        List<TransactionResponseDto> dtos = transactionService.getAllTransactionsByUser(user);
-        return ResponseEntity.ok(dtos);
+    public ResponseEntity<TransactionPageDto> getAllByUser(
+            @CurrentUser User user,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        TransactionPageDto page = transactionService.getAllTransactionsByUser(user, cursor, limit);
+        return ResponseEntity.ok(page);
     }
 
+    @Operation(summary = "유형별 가게부 내역 조회", description = "type=expense|income 으로 필터링한 가게부 내역을 최신순으로 조회합니다.")
     @GetMapping(params = "type")
-    public ResponseEntity<List<TransactionResponseDto>> getByUserAndType(
-            @AuthenticationPrincipal UserPrincipal userPrincipal,
-            @RequestParam String type) {
-        User user = getUserFromPrincipal(userPrincipal);
-        List<TransactionResponseDto> dtos;
-
-        if ("expense".equalsIgnoreCase(type)) {
-            dtos = transactionService.getTransactionsByUserAndType(user, "expense");
-        } else if ("income".equalsIgnoreCase(type)) {
-            dtos = transactionService.getTransactionsByUserAndType(user, "income");
-        } else {
-            dtos = transactionService.getAllTransactionsByUser(user);
-        }
-
-        return ResponseEntity.ok(dtos);
+    public ResponseEntity<TransactionPageDto> getByUserAndType(
+            @CurrentUser User user,
+            @RequestParam String type,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        TransactionPageDto page = transactionService.getTransactionsByUserAndType(user, type, cursor, limit);
+        return ResponseEntity.ok(page);
     }
 
     @Operation(summary = "새 가게부 생성", description = "현재 인증된 사용자의 새로운 가게부를 생성합니다.")
     @PostMapping
     public ResponseEntity<TransactionResponseDto> create(
-            @AuthenticationPrincipal UserPrincipal userPrincipal,
-            @RequestBody TransactionDto dto) {
-        User user = getUserFromPrincipal(userPrincipal);
+            @CurrentUser User user,
+            @Valid @RequestBody TransactionDto dto) {
         TransactionResponseDto created = transactionService.createTransaction(user, dto);
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
@@ -68,29 +74,87 @@ public class TransactionController {
     @Operation(summary = "가게부 내역 수정", description = "현재 인증된 사용자의 특정 가게부 내역을 수정합니다.")
     @PutMapping("/{id}")
     public ResponseEntity<TransactionResponseDto> update(
-            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @CurrentUser User user,
             @PathVariable Long id,
-            @RequestBody TransactionDto dto) {
-        User user = getUserFromPrincipal(userPrincipal);
+            @Valid @RequestBody TransactionDto dto) {
         TransactionResponseDto updated = transactionService.updateTransaction(user, id, dto);
         return ResponseEntity.ok(updated);
     }
 
     @Operation(summary = "가게부 내역 삭제", description = "현재 인증된 사용자의 특정 가게부 내역을 삭제합니다.")
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> delete(@AuthenticationPrincipal UserPrincipal userPrincipal, @PathVariable Long id) {
-        User user = getUserFromPrincipal(userPrincipal);
+    public ResponseEntity<Void> delete(@CurrentUser User user, @PathVariable Long id) {
         transactionService.deleteTransaction(user, id);
         return ResponseEntity.noContent().build();
     }
 
     @Operation(summary = "카테고리별 가게부 내역 조회", description = "현재 인증된 사용자의 특정 카테고리 가게부 내역을 조회합니다.")
     @GetMapping("/category/{categoryId}")
-    public ResponseEntity<List<TransactionResponseDto>> getByUserAndCategory(
-            @AuthenticationPrincipal UserPrincipal userPrincipal,
-            @PathVariable Integer categoryId) {
-        User user = getUserFromPrincipal(userPrincipal);
-        List<TransactionResponseDto> dtos = transactionService.getTransactionsByUserAndCategory(user, categoryId);
-        return ResponseEntity.ok(dtos);
+    public ResponseEntity<TransactionPageDto> getByUserAndCategory(
+            @CurrentUser User user,
+            @PathVariable Integer categoryId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        TransactionPageDto page = transactionService.getTransactionsByUserAndCategory(user, categoryId, cursor, limit);
+        return ResponseEntity.ok(page);
+    }
+
+    @Operation(summary = "가게부 내역 내보내기",
+            description = "현재 인증된 사용자의 가게부 내역을 CSV 또는 NDJSON 으로 스트리밍합니다. Accept-Encoding: gzip 이면 압축해서 보냅니다.")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @CurrentUser User user,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        Long userId = user.getId();
+        TransactionExportService.Format exportFormat = TransactionExportService.Format.from(format);
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream gzipOut = new GZIPOutputStream(out, 16 * 1024);
+                transactionExportService.export(userId, from, to, exportFormat, gzipOut);
+                gzipOut.finish();
+            } else {
+                transactionExportService.export(userId, from, to, exportFormat, out);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"yozi-transactions." + exportFormat.getExtension() + "\"")
+                // 같은 URL 이 Accept-Encoding 에 따라 압축/비압축으로 달라지므로 캐시가 섞지 않도록
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    @Operation(summary = "가게부 내역 가져오기",
+            description = "카드/은행 거래 내역 CSV 를 업로드해 한 번에 등록합니다. 잘못된 행은 건너뛰고 행 번호와 함께 오류로 반환합니다. "
+                    + "국내 은행 CSV 는 charset=MS949 로 지정하세요. 유형이 빈 행은 amountSign 을 지정해야 금액 부호로 판단합니다 "
+                    + "(negative_expense: 출금이 음수인 은행 내역, positive_expense: 결제가 양수인 카드 명세서).")
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportResultDto> importStatement(
+            @CurrentUser User user,
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(defaultValue = "UTF-8") String charset,
+            @RequestParam(required = false) String amountSign) throws IOException {
+        TransactionImportService.AmountSign sign = amountSign == null || amountSign.isBlank()
+                ? null : TransactionImportService.AmountSign.from(amountSign);
+        Charset sourceCharset;
+        try {
+            sourceCharset = Charset.forName(charset);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "지원하지 않는 문자 인코딩: " + charset, e);
+        }
+        try (Reader reader = new InputStreamReader(file.getInputStream(), sourceCharset)) {
+            ImportResultDto result = transactionImportService.importCsv(user, reader, sign);
+            return ResponseEntity.ok(result);
+        }
     }
 }
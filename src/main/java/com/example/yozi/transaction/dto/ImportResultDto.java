@@ -0,0 +1,12 @@
+package com.example.yozi.transaction.dto;
+
+import java.util.List;
+
+public record ImportResultDto(
+        long imported,
+        long failed,
+        List<RowError> errors,
+        boolean errorsTruncated  // 오류가 많으면 앞부분만 포함
+) {
+    public record RowError(long line, String message) {}
+}
@@ -0,0 +1,38 @@
+package com.example.yozi.transaction.dto;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+/**
+ * 거래 목록 keyset 페이지네이션 커서. (transactionDate DESC, id DESC) 순서에서 마지막으로 내려준 행의 위치입니다.
+ * 클라이언트에는 불투명한 base64url 문자열로 전달됩니다.
+ * 해석할 수 없는 커서는 클라이언트 입력 오류이므로 400 으로 응답합니다.
+ */
+public record TransactionCursor(LocalDate transactionDate, Long id) {
+
+    // 첫 페이지: 모든 행보다 뒤에 있는 가상의 위치
+    public static final TransactionCursor FIRST = new TransactionCursor(LocalDate.of(9999, 12, 31), Long.MAX_VALUE);
+
+    public static TransactionCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            return new TransactionCursor(LocalDate.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 커서입니다: " + cursor, e);
+        }
+    }
+
+    public String encode() {
+        String raw = transactionDate + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -2,6 +2,7 @@ package com.example.yozi.transaction.dto;
 
 import com.example.yozi.transaction.entity.enums.PaymentMethod;
 import com.example.yozi.transaction.entity.enums.TransactionType;
+import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 import lombok.Getter;
 import lombok.Setter;
@@ -18,5 +19,6 @@ public class TransactionDto {
     private String vendor;
     private Integer amount;
     private String memo;
+    @NotNull // 목록 커서가 (날짜, id) 순서라 날짜 없는 거래는 둘 수 없음
     private LocalDate transactionDate;
 }
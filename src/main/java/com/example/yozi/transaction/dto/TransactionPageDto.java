@@ -0,0 +1,9 @@
+package com.example.yozi.transaction.dto;
+
+import java.util.List;
+
+// next 가 null 이면 마지막 페이지
+public record TransactionPageDto(
+        List<TransactionResponseDto> items,
+        String next
+) {}
@@ -0,0 +1,47 @@
+package com.example.yozi.transaction.entity;
+
+import com.example.yozi.transaction.entity.enums.TransactionType;
+import com.example.yozi.user.entity.User;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// 사용자·월·유형·카테고리별 수입/지출 합계 (transactions 의 증분 집계)
+@Entity
+@Table(name = "monthly_rollup",
+        uniqueConstraints = @UniqueConstraint(name = "uk_monthly_rollup_bucket",
+                columnNames = {"user_id", "rollup_month", "type", "category_id"}))
+@Getter
+@NoArgsConstructor
+public class MonthlyRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "rollup_month", nullable = false)
+    private int rollupMonth; // yyyyMM (예: 202610)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TransactionType type;
+
+    @Column(name = "category_id", nullable = false)
+    private int categoryId; // 카테고리 없는 거래는 0
+
+    @Column(nullable = false)
+    private long amount;
+
+    @Column(name = "tx_count", nullable = false)
+    private long txCount;
+
+    public static int monthKey(LocalDate date) {
+        return date.getYear() * 100 + date.getMonthValue();
+    }
+}
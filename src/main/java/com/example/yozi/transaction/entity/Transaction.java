@@ -10,7 +10,12 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "transactions")
+@Table(name = "transactions", indexes = {
+        @Index(name = "idx_tx_user_date_type", columnList = "user_id, transaction_date, type, amount"),
+        @Index(name = "idx_tx_user_type_date", columnList = "user_id, type, transaction_date"),
+        @Index(name = "idx_tx_user_category_date", columnList = "user_id, category_id, transaction_date"),
+        @Index(name = "idx_tx_user_date_id", columnList = "user_id, transaction_date, id")
+})
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -40,6 +45,7 @@ public class Transaction {
     @Column(columnDefinition = "TEXT")
     private String memo;
 
+    @Column(nullable = false)
     private LocalDate transactionDate;
 
     private LocalDateTime createdAt;
@@ -0,0 +1,12 @@
+package com.example.yozi.transaction.repository;
+
+import com.example.yozi.transaction.entity.enums.TransactionType;
+
+import java.time.LocalDate;
+
+// TransactionRepository.sumDailyByType 결과 행 (날짜·유형별 금액 합계)
+public interface DailyTypeSumRow {
+    LocalDate getDate();
+    TransactionType getType();
+    Number getAmount();
+}
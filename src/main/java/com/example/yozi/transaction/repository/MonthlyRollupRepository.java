@@ -0,0 +1,78 @@
+package com.example.yozi.transaction.repository;
+
+import com.example.yozi.transaction.entity.MonthlyRollup;
+import com.example.yozi.transaction.entity.enums.TransactionType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface MonthlyRollupRepository extends JpaRepository<MonthlyRollup, Long> {
+
+    // transactions 에서 직접 계산한 버킷 집계 (rebuild / verify 공용, V9 백필도 같은 식)
+    String BUCKET_SELECT =
+            "SELECT t.user_id, YEAR(t.transaction_date) * 100 + MONTH(t.transaction_date) AS rollup_month, " +
+            "t.type, COALESCE(t.category_id, 0) AS category_id, SUM(t.amount) AS amount, COUNT(*) AS tx_count " +
+            "FROM transactions t " +
+            "WHERE t.transaction_date IS NOT NULL AND t.type IS NOT NULL AND t.amount IS NOT NULL ";
+
+    String BUCKET_GROUP_BY =
+            "GROUP BY t.user_id, YEAR(t.transaction_date) * 100 + MONTH(t.transaction_date), t.type, COALESCE(t.category_id, 0)";
+
+    String TRANSACTION_BUCKETS = BUCKET_SELECT + BUCKET_GROUP_BY;
+
+    // 버킷이 없으면 생성, 있으면 금액/건수를 더함 (음수로 차감)
+    @Modifying
+    @Query(value = "INSERT INTO monthly_rollup (user_id, rollup_month, type, category_id, amount, tx_count) " +
+            "VALUES (:userId, :month, :type, :categoryId, :amount, :count) " +
+            "ON DUPLICATE KEY UPDATE amount = amount + VALUES(amount), tx_count = tx_count + VALUES(tx_count)",
+            nativeQuery = true)
+    int addToBucket(@Param("userId") Long userId,
+                    @Param("month") int month,
+                    @Param("type") String type,
+                    @Param("categoryId") int categoryId,
+                    @Param("amount") long amount,
+                    @Param("count") long count);
+
+    // 해당 월/유형 합계, 카테고리 수(최대 8행)만큼만 읽음
+    @Query("SELECT COALESCE(SUM(r.amount), 0) FROM MonthlyRollup r " +
+            "WHERE r.user.id = :userId AND r.rollupMonth = :month AND r.type = :type")
+    Long sumAmountByUserAndMonthAndType(@Param("userId") Long userId,
+                                        @Param("month") int month,
+                                        @Param("type") TransactionType type);
+
+    // 월·유형·카테고리별 합계 (idx_rollup_user_month_amount 만으로 처리, 최대 월 수 × 2 × 카테고리 수 행). type 이 null 이면 전체
+    @Query("SELECT r.rollupMonth AS month, r.type AS type, r.categoryId AS categoryId, SUM(r.amount) AS amount " +
+            "FROM MonthlyRollup r WHERE r.user.id = :userId AND r.rollupMonth BETWEEN :fromMonth AND :toMonth " +
+            "AND (:type IS NULL OR r.type = :type) " +
+            "GROUP BY r.rollupMonth, r.type, r.categoryId")
+    List<MonthlyTrendRow> sumByMonth(@Param("userId") Long userId,
+                                     @Param("fromMonth") int fromMonth,
+                                     @Param("toMonth") int toMonth,
+                                     @Param("type") TransactionType type);
+
+    @Modifying
+    @Query(value = "DELETE FROM monthly_rollup WHERE user_id = :userId", nativeQuery = true)
+    int deleteByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "INSERT INTO monthly_rollup (user_id, rollup_month, type, category_id, amount, tx_count) " +
+            BUCKET_SELECT + "AND t.user_id = :userId " + BUCKET_GROUP_BY, nativeQuery = true)
+    int rebuildFromTransactions(@Param("userId") Long userId);
+
+    // transactions 집계와 다른 버킷 수 (누락, 금액/건수 불일치, 남아있는 값)
+    @Query(value = "SELECT COUNT(*) FROM (" +
+            "SELECT a.user_id FROM (" + TRANSACTION_BUCKETS + ") a " +
+            "LEFT JOIN monthly_rollup r ON r.user_id = a.user_id AND r.rollup_month = a.rollup_month " +
+            "AND r.type = a.type AND r.category_id = a.category_id " +
+            "WHERE r.id IS NULL OR r.amount <> a.amount OR r.tx_count <> a.tx_count " +
+            "UNION ALL " +
+            "SELECT r.user_id FROM monthly_rollup r " +
+            "LEFT JOIN (" + TRANSACTION_BUCKETS + ") a ON r.user_id = a.user_id AND r.rollup_month = a.rollup_month " +
+            "AND r.type = a.type AND r.category_id = a.category_id " +
+            "WHERE a.user_id IS NULL AND (r.amount <> 0 OR r.tx_count <> 0)" +
+            ") mismatches", nativeQuery = true)
+    Long countMismatches();
+}
@@ -0,0 +1,11 @@
+package com.example.yozi.transaction.repository;
+
+import com.example.yozi.transaction.entity.enums.TransactionType;
+
+// MonthlyRollupRepository.sumByMonth 결과 행 (yyyyMM·유형·카테고리별 합계)
+public interface MonthlyTrendRow {
+    Integer getMonth();
+    TransactionType getType();
+    Integer getCategoryId();
+    Number getAmount();
+}
@@ -0,0 +1,11 @@
+package com.example.yozi.transaction.repository;
+
+import java.time.LocalDate;
+
+// 월별 분석 거래 내역 projection (id 는 다음 페이지 커서용)
+public record TransactionDetailRow(
+        Long id,
+        LocalDate transactionDate,
+        String vendor,
+        Integer amount
+) {}
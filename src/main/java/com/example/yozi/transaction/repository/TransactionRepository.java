@@ -1,24 +1,108 @@
 package com.example.yozi.transaction.repository;
 
+import com.example.yozi.budget.dto.FinancialScheduleDto;
 import com.example.yozi.transaction.entity.Transaction;
 import com.example.yozi.transaction.entity.enums.TransactionType;
-import org.springframework.data.jpa.repository.EntityGraph;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
 
-    List<Transaction> findByUserIdAndTransactionDateBetween(Long userId, LocalDate startDate, LocalDate endDate);
+    // 목록/분석 조회는 엔티티 대신 필요한 컬럼만 projection 으로 (영속성 컨텍스트 스냅샷, user 조인 없음)
+    String TRANSACTION_ROW = "SELECT new com.example.yozi.transaction.repository.TransactionRow(" +
+            "t.id, t.type, t.categoryId, t.paymentMethod, t.vendor, t.amount, t.memo, t.transactionDate) " +
+            "FROM Transaction t ";
 
-    List<Transaction> findByUserIdAndType(Long userId, TransactionType type);
+    // 기간 내 일정 (오래된 순)
+    @Query("SELECT new com.example.yozi.budget.dto.FinancialScheduleDto(t.transactionDate, t.vendor, t.amount, t.type) " +
+            "FROM Transaction t " +
+            "WHERE t.user.id = :userId AND t.transactionDate BETWEEN :startDate AND :endDate " +
+            "ORDER BY t.transactionDate, t.id")
+    List<FinancialScheduleDto> findSchedulesByUserIdAndTransactionDateBetween(@Param("userId") Long userId,
+                                                                              @Param("startDate") LocalDate startDate,
+                                                                              @Param("endDate") LocalDate endDate);
 
+    // keyset 페이지: (date, id) 커서 이후의 행을 (transactionDate DESC, id DESC) 순으로 limit 건
+    @Query(TRANSACTION_ROW +
+            "WHERE t.user.id = :userId " +
+            "AND (t.transactionDate < :date OR (t.transactionDate = :date AND t.id < :id)) " +
+            "ORDER BY t.transactionDate DESC, t.id DESC")
+    List<TransactionRow> findPageByUserId(@Param("userId") Long userId,
+                                          @Param("date") LocalDate date,
+                                          @Param("id") Long id,
+                                          Limit limit);
 
-    @EntityGraph(attributePaths = {"user"})
-    List<Transaction> findByUserId(Long userId);
+    @Query(TRANSACTION_ROW +
+            "WHERE t.user.id = :userId AND t.type = :type " +
+            "AND (t.transactionDate < :date OR (t.transactionDate = :date AND t.id < :id)) " +
+            "ORDER BY t.transactionDate DESC, t.id DESC")
+    List<TransactionRow> findPageByUserIdAndType(@Param("userId") Long userId,
+                                                 @Param("type") TransactionType type,
+                                                 @Param("date") LocalDate date,
+                                                 @Param("id") Long id,
+                                                 Limit limit);
+
+    @Query(TRANSACTION_ROW +
+            "WHERE t.user.id = :userId AND t.categoryId = :categoryId " +
+            "AND (t.transactionDate < :date OR (t.transactionDate = :date AND t.id < :id)) " +
+            "ORDER BY t.transactionDate DESC, t.id DESC")
+    List<TransactionRow> findPageByUserIdAndCategoryId(@Param("userId") Long userId,
+                                                       @Param("categoryId") Integer categoryId,
+                                                       @Param("date") LocalDate date,
+                                                       @Param("id") Long id,
+                                                       Limit limit);
+
+    // 기간 안에서 keyset 페이지 (월별 분석 거래 내역)
+    @Query("SELECT new com.example.yozi.transaction.repository.TransactionDetailRow(" +
+            "t.id, t.transactionDate, t.vendor, t.amount) FROM Transaction t " +
+            "WHERE t.user.id = :userId AND t.transactionDate BETWEEN :startDate AND :endDate " +
+            "AND (t.transactionDate < :date OR (t.transactionDate = :date AND t.id < :id)) " +
+            "ORDER BY t.transactionDate DESC, t.id DESC")
+    List<TransactionDetailRow> findDetailPageByUserIdAndTransactionDateBetween(@Param("userId") Long userId,
+                                                                               @Param("startDate") LocalDate startDate,
+                                                                               @Param("endDate") LocalDate endDate,
+                                                                               @Param("date") LocalDate date,
+                                                                               @Param("id") Long id,
+                                                                               Limit limit);
+
+    // 내보내기용 스트림. 트랜잭션 안에서 소비해야 함.
+    // MySQL Connector/J 는 useCursorFetch=true 일 때만 fetch size 단위로 읽고, 아니면 결과 전체를 메모리에 올림
+    // (yozi-defaults.properties 의 spring.datasource.hikari.data-source-properties.useCursorFetch 로 기본 적용)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM Transaction t " +
+            "WHERE t.user.id = :userId AND t.transactionDate BETWEEN :startDate AND :endDate " +
+            "ORDER BY t.transactionDate, t.id")
+    Stream<Transaction> streamByUserIdAndTransactionDateBetween(@Param("userId") Long userId,
+                                                                @Param("startDate") LocalDate startDate,
+                                                                @Param("endDate") LocalDate endDate);
+
+    // 기간 없는 전체 내보내기 (날짜 조건 없이 사용자의 모든 거래)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM Transaction t WHERE t.user.id = :userId ORDER BY t.transactionDate, t.id")
+    Stream<Transaction> streamByUserId(@Param("userId") Long userId);
+
+    // 날짜·유형별 합계 (idx_tx_user_date_type 커버링, 엔티티를 읽지 않음)
+    @Query("SELECT t.transactionDate AS date, t.type AS type, SUM(t.amount) AS amount FROM Transaction t " +
+            "WHERE t.user.id = :userId AND t.transactionDate BETWEEN :startDate AND :endDate " +
+            "GROUP BY t.transactionDate, t.type")
+    List<DailyTypeSumRow> sumDailyByType(@Param("userId") Long userId,
+                                         @Param("startDate") LocalDate startDate,
+                                         @Param("endDate") LocalDate endDate);
 
     @Query("SELECT COALESCE(SUM(t.amount), 0) FROM Transaction t " +
             "WHERE t.user.id = :userId AND t.transactionDate BETWEEN :startDate AND :endDate AND t.type = :type")
@@ -27,6 +111,4 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
                                             @Param("endDate") LocalDate endDate,
                                             @Param("type") TransactionType type);
 
-    List<Transaction> findByUserIdAndCategoryId(Long userId, Integer categoryId);
-
 }
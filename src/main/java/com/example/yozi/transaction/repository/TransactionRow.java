@@ -0,0 +1,25 @@
+package com.example.yozi.transaction.repository;
+
+import com.example.yozi.transaction.entity.Transaction;
+import com.example.yozi.transaction.entity.enums.PaymentMethod;
+import com.example.yozi.transaction.entity.enums.TransactionType;
+
+import java.time.LocalDate;
+
+// 거래 목록 조회용 projection (user 조인 없이 TransactionResponseDto 에 필요한 컬럼만)
+public record TransactionRow(
+        Long id,
+        TransactionType type,
+        Integer categoryId,
+        PaymentMethod paymentMethod,
+        String vendor,
+        Integer amount,
+        String memo,
+        LocalDate transactionDate
+) {
+
+    public static TransactionRow of(Transaction tx) {
+        return new TransactionRow(tx.getId(), tx.getType(), tx.getCategoryId(), tx.getPaymentMethod(),
+                tx.getVendor(), tx.getAmount(), tx.getMemo(), tx.getTransactionDate());
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.yozi.transaction.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * 관리자용 집계 재계산/검증 명령. rebuild 는 사용자 단위로 잠그고 다시 계산하므로 서비스 중에도 실행할 수 있습니다.
+ * <pre>
+ * java -jar yozi.jar --spring.main.web-application-type=none --rollup=rebuild
+ * java -jar yozi.jar --spring.main.web-application-type=none --rollup=verify
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MonthlyRollupCommand implements ApplicationRunner {
+
+    private final MonthlyRollupService monthlyRollupService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!args.containsOption("rollup")) {
+            return;
+        }
+
+        for (String action : args.getOptionValues("rollup")) {
+            switch (action) {
+                case "rebuild" -> {
+                    long started = System.currentTimeMillis();
+                    long buckets = monthlyRollupService.rebuild();
+                    log.info("monthly_rollup 재계산 완료: {}개 버킷, {}ms", buckets, System.currentTimeMillis() - started);
+                }
+                case "verify" -> {
+                    long mismatches = monthlyRollupService.verify();
+                    if (mismatches == 0) {
+                        log.info("monthly_rollup 검증 완료: 불일치 없음");
+                    } else {
+                        log.warn("monthly_rollup 검증 실패: {}개 버킷 불일치 (--rollup=rebuild 로 재계산하세요)", mismatches);
+                    }
+                }
+                default -> log.warn("알 수 없는 rollup 명령입니다: {}", action);
+            }
+        }
+    }
+}
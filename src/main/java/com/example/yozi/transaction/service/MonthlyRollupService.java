@@ -0,0 +1,169 @@
+package com.example.yozi.transaction.service;
+
+import com.example.yozi.transaction.entity.MonthlyRollup;
+import com.example.yozi.transaction.entity.Transaction;
+import com.example.yozi.transaction.entity.enums.TransactionType;
+import com.example.yozi.transaction.repository.MonthlyRollupRepository;
+import com.example.yozi.user.service.DataVersionService;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 거래 쓰기와 같은 DB 트랜잭션 안에서 monthly_rollup 버킷을 갱신합니다.
+ * 버킷 키는 (user, yyyyMM, type, categoryId) 입니다.
+ * 거래 쓰기는 거래보다 먼저 사용자 행(data_version) 을 갱신해 잠그고, {@link #rebuild()} 도 사용자마다 같은 행을 먼저 잠그므로
+ * 같은 사용자의 쓰기와 재계산이 섞이지 않습니다.
+ */
+@Service
+public class MonthlyRollupService {
+
+    // MonthlyRollupRepository.addToBucket 과 같은 upsert (대량 입력용 JDBC 배치)
+    private static final String ADD_TO_BUCKET_SQL = "INSERT INTO monthly_rollup " +
+            "(user_id, rollup_month, type, category_id, amount, tx_count) VALUES (?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE amount = amount + VALUES(amount), tx_count = tx_count + VALUES(tx_count)";
+
+    private static final String NEXT_USERS_SQL = "SELECT id FROM users WHERE id > ? ORDER BY id LIMIT ?";
+
+    private static final int REBUILD_PAGE_SIZE = 1000;
+
+    private final MonthlyRollupRepository monthlyRollupRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final DataVersionService dataVersionService;
+    private final TransactionTemplate transactionTemplate;
+
+    public MonthlyRollupService(MonthlyRollupRepository monthlyRollupRepository,
+                                JdbcTemplate jdbcTemplate,
+                                DataVersionService dataVersionService,
+                                PlatformTransactionManager transactionManager) {
+        this.monthlyRollupRepository = monthlyRollupRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataVersionService = dataVersionService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 거래 하나가 속한 버킷과 금액. 날짜/유형/금액이 비어 있으면 집계 대상이 아니므로 null.
+     */
+    public record Snapshot(Long userId, int month, TransactionType type, int categoryId, long amount) {
+
+        public static Snapshot of(Transaction tx) {
+            if (tx.getTransactionDate() == null || tx.getType() == null || tx.getAmount() == null) {
+                return null;
+            }
+            return new Snapshot(
+                    tx.getUser().getId(),
+                    MonthlyRollup.monthKey(tx.getTransactionDate()),
+                    tx.getType(),
+                    tx.getCategoryId() != null ? tx.getCategoryId() : 0,
+                    tx.getAmount());
+        }
+
+        boolean sameBucket(Snapshot other) {
+            return userId.equals(other.userId) && month == other.month
+                    && type == other.type && categoryId == other.categoryId;
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void add(Snapshot snapshot) {
+        if (snapshot != null) {
+            apply(snapshot, snapshot.amount(), 1);
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void remove(Snapshot snapshot) {
+        if (snapshot != null) {
+            apply(snapshot, -snapshot.amount(), -1);
+        }
+    }
+
+    // 대량 입력: 같은 버킷끼리 먼저 합산해 버킷당 한 번만, 모든 버킷을 JDBC 배치 하나로 갱신
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addAll(Collection<Snapshot> snapshots) {
+        Map<Snapshot, long[]> buckets = new HashMap<>();
+        for (Snapshot snapshot : snapshots) {
+            if (snapshot == null) {
+                continue;
+            }
+            Snapshot bucket = new Snapshot(snapshot.userId(), snapshot.month(), snapshot.type(), snapshot.categoryId(), 0);
+            long[] totals = buckets.computeIfAbsent(bucket, k -> new long[2]);
+            totals[0] += snapshot.amount();
+            totals[1]++;
+        }
+        List<Map.Entry<Snapshot, long[]>> rows = new ArrayList<>(buckets.entrySet());
+        jdbcTemplate.batchUpdate(ADD_TO_BUCKET_SQL, rows, rows.size(), (ps, row) -> {
+            Snapshot bucket = row.getKey();
+            ps.setLong(1, bucket.userId());
+            ps.setInt(2, bucket.month());
+            ps.setString(3, bucket.type().name());
+            ps.setInt(4, bucket.categoryId());
+            ps.setLong(5, row.getValue()[0]);
+            ps.setLong(6, row.getValue()[1]);
+        });
+    }
+
+    // 수정으로 날짜/유형/카테고리가 바뀌면 이전 버킷에서 빼고 새 버킷에 더함
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void move(Snapshot before, Snapshot after) {
+        if (before != null && after != null && before.sameBucket(after)) {
+            long delta = after.amount() - before.amount();
+            if (delta != 0) {
+                apply(after, delta, 0);
+            }
+            return;
+        }
+        remove(before);
+        add(after);
+    }
+
+    /**
+     * 사용자마다 별도 트랜잭션으로 버킷을 지우고 transactions 에서 다시 계산합니다. 운영 중(쓰기가 있는 동안)에도 실행할 수 있습니다.
+     * 사용자 행을 먼저 잠그므로 그 사용자의 거래 쓰기는 재계산이 끝날 때까지 기다립니다. 배포 시 초기값은 V9 마이그레이션이 채웁니다.
+     * @return 생성된 버킷 수
+     */
+    public long rebuild() {
+        long buckets = 0;
+        long lastUserId = 0;
+        List<Long> userIds;
+        while (!(userIds = jdbcTemplate.queryForList(NEXT_USERS_SQL, Long.class, lastUserId, REBUILD_PAGE_SIZE)).isEmpty()) {
+            for (Long userId : userIds) {
+                Integer rebuilt = transactionTemplate.execute(status -> rebuild(userId));
+                buckets += rebuilt != null ? rebuilt : 0;
+            }
+            lastUserId = userIds.get(userIds.size() - 1);
+        }
+        return buckets;
+    }
+
+    // 재계산 결과가 이전 집계와 다를 수 있으므로 data_version 도 올림 (잠금과 ETag 무효화를 같은 UPDATE 로)
+    private int rebuild(Long userId) {
+        dataVersionService.bumpAll(List.of(userId));
+        monthlyRollupRepository.deleteByUserId(userId);
+        return monthlyRollupRepository.rebuildFromTransactions(userId);
+    }
+
+    /**
+     * transactions 집계와 일치하지 않는 버킷 수를 반환합니다. 0이면 정상입니다.
+     */
+    @Transactional(readOnly = true)
+    public long verify() {
+        Long mismatches = monthlyRollupRepository.countMismatches();
+        return mismatches != null ? mismatches : 0L;
+    }
+
+    private void apply(Snapshot bucket, long amount, long count) {
+        monthlyRollupRepository.addToBucket(bucket.userId(), bucket.month(), bucket.type().name(),
+                bucket.categoryId(), amount, count);
+    }
+}
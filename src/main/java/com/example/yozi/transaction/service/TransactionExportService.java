@@ -0,0 +1,184 @@
+package com.example.yozi.transaction.service;
+
+import com.example.yozi.category.entity.Category;
+import com.example.yozi.category.service.CategoryRegistry;
+import com.example.yozi.transaction.entity.Transaction;
+import com.example.yozi.transaction.repository.TransactionRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+/**
+ * 사용자의 거래 내역 전체를 CSV / NDJSON 으로 내보냅니다.
+ * 행을 하나씩 읽어 쓰고 바로 영속성 컨텍스트에서 분리하므로 거래 건수와 관계없이 메모리 사용량이 일정합니다.
+ * MySQL 에서는 드라이버가 결과를 나눠 받도록 useCursorFetch=true 가 필요합니다 (배포 설정에서 끄지 말 것, yozi-defaults.properties 참고).
+ */
+@Service
+@RequiredArgsConstructor
+public class TransactionExportService {
+
+    // MySQL DATE 범위 (가져오기도 이 범위 밖 날짜는 거절)
+    public static final LocalDate MIN_DATE = LocalDate.of(1000, 1, 1);
+    public static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+
+    private static final String[] CSV_HEADER =
+            {"date", "type", "category", "paymentMethod", "vendor", "amount", "memo"};
+
+    private final TransactionRepository transactionRepository;
+    private final CategoryRegistry categoryRegistry;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static Format from(String value) {
+            for (Format format : values()) {
+                if (format.name().equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "지원하지 않는 내보내기 형식: " + value);
+        }
+    }
+
+    /**
+     * from, to 가 모두 없으면 날짜 조건 없이 전체를, 한쪽만 있으면 나머지는 MIN_DATE / MAX_DATE 까지 내보냅니다.
+     * @return 내보낸 거래 건수
+     */
+    public long export(Long userId, LocalDate from, LocalDate to, Format format, OutputStream out) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+
+        return template.execute(status -> {
+            try (Stream<Transaction> rows = from == null && to == null
+                    ? transactionRepository.streamByUserId(userId)
+                    : transactionRepository.streamByUserIdAndTransactionDateBetween(userId,
+                            from != null ? from : MIN_DATE, to != null ? to : MAX_DATE)) {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+                long count = format == Format.CSV ? writeCsv(rows, writer) : writeNdjson(rows, writer);
+                writer.flush();
+                return count;
+            } catch (IOException e) {
+                throw new UncheckedIOException("거래 내역 내보내기 실패", e);
+            }
+        });
+    }
+
+    private long writeCsv(Stream<Transaction> rows, Writer writer) throws IOException {
+        writer.write('\uFEFF'); // 엑셀에서 UTF-8 로 인식하도록 BOM
+        writer.write(String.join(",", CSV_HEADER));
+        writer.write('\n');
+
+        long count = 0;
+        for (Transaction tx : (Iterable<Transaction>) rows::iterator) {
+            writer.write(String.valueOf(tx.getTransactionDate()));
+            writer.write(',');
+            writer.write(tx.getType() != null ? tx.getType().name() : "");
+            writer.write(',');
+            writeCsvValue(writer, categoryName(tx));
+            writer.write(',');
+            writer.write(tx.getPaymentMethod() != null ? tx.getPaymentMethod().name() : "");
+            writer.write(',');
+            writeCsvValue(writer, tx.getVendor());
+            writer.write(',');
+            writer.write(tx.getAmount() != null ? tx.getAmount().toString() : "");
+            writer.write(',');
+            writeCsvValue(writer, tx.getMemo());
+            writer.write('\n');
+
+            entityManager.detach(tx);
+            count++;
+        }
+        return count;
+    }
+
+    private long writeNdjson(Stream<Transaction> rows, Writer writer) throws IOException {
+        JsonGenerator json = objectMapper.getFactory().createGenerator(writer);
+        json.setRootValueSeparator(null);
+
+        long count = 0;
+        for (Transaction tx : (Iterable<Transaction>) rows::iterator) {
+            json.writeStartObject();
+            json.writeNumberField("id", tx.getId());
+            json.writeStringField("date", String.valueOf(tx.getTransactionDate()));
+            json.writeStringField("type", tx.getType() != null ? tx.getType().name() : null);
+            if (tx.getCategoryId() != null) {
+                json.writeNumberField("categoryId", tx.getCategoryId());
+            } else {
+                json.writeNullField("categoryId");
+            }
+            json.writeStringField("category", categoryName(tx));
+            json.writeStringField("paymentMethod", tx.getPaymentMethod() != null ? tx.getPaymentMethod().name() : null);
+            json.writeStringField("vendor", tx.getVendor());
+            if (tx.getAmount() != null) {
+                json.writeNumberField("amount", tx.getAmount());
+            } else {
+                json.writeNullField("amount");
+            }
+            json.writeStringField("memo", tx.getMemo());
+            json.writeEndObject();
+            json.writeRaw('\n');
+
+            entityManager.detach(tx);
+            count++;
+        }
+        json.flush();
+        return count;
+    }
+
+    private String categoryName(Transaction tx) {
+        return categoryRegistry.findById(tx.getCategoryId())
+                .map(Category::getDisplayName)
+                .orElse("");
+    }
+
+    // 스프레드시트가 =, +, -, @ (와 탭, CR) 로 시작하는 셀을 수식으로 실행하지 않도록 ' 를 붙임 (CSV injection)
+    private void writeCsvValue(Writer writer, String value) throws IOException {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        char first = value.charAt(0);
+        if (first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r') {
+            value = "'" + value;
+        }
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
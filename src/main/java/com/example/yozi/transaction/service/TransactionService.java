@@ -1,14 +1,22 @@
 package com.example.yozi.transaction.service;
 
-import com.example.yozi.category.repository.CategoryRepository;
+import com.example.yozi.category.service.CategoryRegistry;
+import com.example.yozi.transaction.dto.TransactionCursor;
 import com.example.yozi.transaction.dto.TransactionDto;
+import com.example.yozi.transaction.dto.TransactionPageDto;
 import com.example.yozi.transaction.dto.TransactionResponseDto;
 import com.example.yozi.transaction.entity.Transaction;
 import com.example.yozi.transaction.entity.enums.TransactionType;
 import com.example.yozi.transaction.repository.TransactionRepository;
+import com.example.yozi.transaction.repository.TransactionRow;
 import com.example.yozi.user.entity.User;
+import com.example.yozi.user.repository.UserRepository;
+import com.example.yozi.user.service.DataVersionService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import com.example.yozi.category.entity.Category;
 
 import java.util.List;
@@ -16,35 +24,49 @@ import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Timed(value = "yozi.service", histogram = true)
 public class TransactionService {
 
-    private final TransactionRepository transactionRepository;
-    private final CategoryRepository categoryRepository;
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
 
-    public List<TransactionResponseDto> getAllTransactionsByUser(User user) {
-        List<Transaction> transactions = transactionRepository.findByUserId(user.getId());
-        return transactions.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+    private final TransactionRepository transactionRepository;
+    private final CategoryRegistry categoryRegistry;
+    private final MonthlyRollupService monthlyRollupService;
+    private final DataVersionService dataVersionService;
+    private final UserRepository userRepository;
+
+    public TransactionPageDto getAllTransactionsByUser(User user, String cursor, Integer limit) {
+        TransactionCursor after = TransactionCursor.decode(cursor);
+        int size = pageSize(limit);
+        List<TransactionRow> rows = transactionRepository.findPageByUserId(
+                user.getId(), after.transactionDate(), after.id(), Limit.of(size + 1));
+        return toPage(rows, size, nickname(user));
     }
 
-    public List<TransactionResponseDto> getTransactionsByUserAndType(User user, String type) {
-        List<Transaction> transactions;
+    public TransactionPageDto getTransactionsByUserAndType(User user, String type, String cursor, Integer limit) {
+        TransactionType transactionType;
 
         if ("expense".equalsIgnoreCase(type)) {
-            transactions = transactionRepository.findByUserIdAndType(user.getId(), TransactionType.EXPENSE);
+            transactionType = TransactionType.EXPENSE;
         } else if ("income".equalsIgnoreCase(type)) {
-            transactions = transactionRepository.findByUserIdAndType(user.getId(), TransactionType.INCOME);
+            transactionType = TransactionType.INCOME;
         } else {
-            transactions = transactionRepository.findByUserId(user.getId());
+            return getAllTransactionsByUser(user, cursor, limit);
         }
 
-        return transactions.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        TransactionCursor after = TransactionCursor.decode(cursor);
+        int size = pageSize(limit);
+        List<TransactionRow> rows = transactionRepository.findPageByUserIdAndType(
+                user.getId(), transactionType, after.transactionDate(), after.id(), Limit.of(size + 1));
+        return toPage(rows, size, nickname(user));
     }
 
+    // 쓰기는 모두 data_version 부터 올려 사용자 행을 먼저 잠금 (MonthlyRollupService.rebuild 와 같은 순서)
+    @Transactional
     public TransactionResponseDto createTransaction(User user, TransactionDto dto) {
+        dataVersionService.bump(user.getId());
         Transaction transaction = Transaction.builder()
                 .user(user)
                 .type(dto.getType())
@@ -57,10 +79,13 @@ public class TransactionService {
                 .build();
 
         Transaction saved = transactionRepository.save(transaction);
-        return convertToDto(saved);
+        monthlyRollupService.add(MonthlyRollupService.Snapshot.of(saved));
+        return convertToDto(TransactionRow.of(saved), nickname(user));
     }
 
+    @Transactional
     public TransactionResponseDto updateTransaction(User user, Long transactionId, TransactionDto dto) {
+        dataVersionService.bump(user.getId());
         Transaction existing = transactionRepository.findById(transactionId)
                 .orElseThrow(() -> new RuntimeException("Transaction not found with ID: " + transactionId));
 
@@ -69,6 +94,8 @@ public class TransactionService {
             throw new RuntimeException("Unauthorized: Transaction does not belong to user " + user.getId());
         }
 
+        MonthlyRollupService.Snapshot before = MonthlyRollupService.Snapshot.of(existing);
+
         existing.setType(dto.getType());
         existing.setCategoryId(dto.getCategoryId());
         existing.setPaymentMethod(dto.getPaymentMethod());
@@ -78,10 +105,13 @@ public class TransactionService {
         existing.setTransactionDate(dto.getTransactionDate());
 
         Transaction updated = transactionRepository.save(existing);
-        return convertToDto(updated);
+        monthlyRollupService.move(before, MonthlyRollupService.Snapshot.of(updated));
+        return convertToDto(TransactionRow.of(updated), nickname(user));
     }
 
+    @Transactional
     public void deleteTransaction(User user, Long transactionId) {
+        dataVersionService.bump(user.getId());
         Transaction transactionToDelete = transactionRepository.findById(transactionId)
                 .orElseThrow(() -> new RuntimeException("Transaction not found with ID: " + transactionId));
 
@@ -89,32 +119,60 @@ public class TransactionService {
             throw new RuntimeException("Unauthorized: Transaction does not belong to user " + user.getId());
         }
 
-        transactionRepository.deleteById(transactionId);
+        monthlyRollupService.remove(MonthlyRollupService.Snapshot.of(transactionToDelete));
+        transactionRepository.delete(transactionToDelete);
     }
 
-    private TransactionResponseDto convertToDto(Transaction tx) {
-        String categoryDisplayName = categoryRepository.findById(tx.getCategoryId().longValue())
+    private TransactionResponseDto convertToDto(TransactionRow tx, String nickname) {
+        String categoryDisplayName = categoryRegistry.findById(tx.categoryId())
                 .map(Category::getDisplayName)
                 .orElse("알 수 없는 카테고리");
 
         return new TransactionResponseDto(
-                tx.getId(),
-                tx.getUser().getNickname(),
-                tx.getType(),
-                tx.getCategoryId(),
+                tx.id(),
+                nickname,
+                tx.type(),
+                tx.categoryId(),
                 categoryDisplayName,
-                tx.getPaymentMethod(),
-                tx.getVendor(),
-                tx.getAmount(),
-                tx.getMemo(),
-                tx.getTransactionDate()
+                tx.paymentMethod(),
+                tx.vendor(),
+                tx.amount(),
+                tx.memo(),
+                tx.transactionDate()
         );
     }
 
-    public List<TransactionResponseDto> getTransactionsByUserAndCategory(User user, Integer categoryId) {
-        List<Transaction> transactions = transactionRepository.findByUserIdAndCategoryId(user.getId(), categoryId);
-        return transactions.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+    // @CurrentUser 는 초기화되지 않은 참조라 open-in-view 없이 필드를 읽을 수 없으므로 닉네임만 따로 조회
+    private String nickname(User user) {
+        return userRepository.findNicknameById(user.getId())
+                .orElseThrow(() -> new RuntimeException("User not found with ID: " + user.getId()));
+    }
+
+    public TransactionPageDto getTransactionsByUserAndCategory(User user, Integer categoryId, String cursor, Integer limit) {
+        TransactionCursor after = TransactionCursor.decode(cursor);
+        int size = pageSize(limit);
+        List<TransactionRow> rows = transactionRepository.findPageByUserIdAndCategoryId(
+                user.getId(), categoryId, after.transactionDate(), after.id(), Limit.of(size + 1));
+        return toPage(rows, size, nickname(user));
+    }
+
+    // limit + 1 건을 조회해 다음 페이지 존재 여부를 판단
+    private TransactionPageDto toPage(List<TransactionRow> rows, int size, String nickname) {
+        boolean hasNext = rows.size() > size;
+        List<TransactionRow> page = hasNext ? rows.subList(0, size) : rows;
+        String next = null;
+        if (hasNext) {
+            TransactionRow last = page.get(page.size() - 1);
+            next = new TransactionCursor(last.transactionDate(), last.id()).encode();
+        }
+
+        return new TransactionPageDto(page.stream().map(tx -> convertToDto(tx, nickname)).collect(Collectors.toList()), next);
+    }
+
+    private int pageSize(Integer limit) {
+        if (limit == null || limit <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(limit, MAX_PAGE_SIZE);
     }
 }
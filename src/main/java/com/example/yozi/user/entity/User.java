@@ -33,6 +33,10 @@ public class User {
     @Column(name = "email") // 컬럼 이름 명시
     private String email; // 사용자 이메일
 
+    // 거래/예산 쓰기마다 증가하는 데이터 버전 (DataVersionService 가 UPDATE 로만 변경, 엔티티 저장 시 덮어쓰지 않음)
+    @Column(name = "data_version", nullable = false, updatable = false)
+    private long dataVersion;
+
     @Column(name = "created_at", nullable = false, updatable = false) // 생성 시간, 업데이트 불가
     private LocalDateTime createdAt;
 
@@ -3,9 +3,28 @@ package com.example.yozi.user.repository;
 import com.example.yozi.user.entity.User;
 import com.example.yozi.user.entity.enums.SocialType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findBySocialIdAndSocialType(String socialId, SocialType socialType);
+
+    @Query("SELECT u.nickname FROM User u WHERE u.id = :userId")
+    Optional<String> findNicknameById(@Param("userId") Long userId);
+
+    @Query("SELECT u.dataVersion FROM User u WHERE u.id = :userId")
+    Optional<Long> findDataVersionById(@Param("userId") Long userId);
+
+    // 행 잠금으로 동시 쓰기 간에도 버전이 항상 증가
+    @Modifying
+    @Query("UPDATE User u SET u.dataVersion = u.dataVersion + 1 WHERE u.id = :userId")
+    int incrementDataVersion(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("UPDATE User u SET u.dataVersion = u.dataVersion + 1 WHERE u.id IN :userIds")
+    int incrementDataVersions(@Param("userIds") Collection<Long> userIds);
 }
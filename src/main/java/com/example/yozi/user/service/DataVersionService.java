@@ -0,0 +1,162 @@
+package com.example.yozi.user.service;
+
+import com.example.yozi.config.ReadYourWritesTracker;
+import com.example.yozi.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 데이터 버전 (users.data_version).
+ * <ul>
+ *     <li>쓰기 트랜잭션 안에서 {@link #bump(Long)} 로 DB 값을 +1 하고, 커밋/롤백 후 메모리 캐시 항목을 지웁니다.
+ *         커밋되면 {@link ReadYourWritesTracker} 에도 기록합니다.</li>
+ *     <li>{@link #current(Long)} 는 메모리 캐시를 먼저 보고, 없거나 TTL(yozi.data-version.cache-ttl) 이 지나면 DB 에서 읽습니다.
+ *         다른 인스턴스의 쓰기는 이 캐시를 지우지 못하므로 TTL 동안 오래된 값일 수 있어, 처음 응답의 ETag 처럼 틀려도
+ *         다음 요청에서 한 번 더 계산하면 되는 곳에만 씁니다.</li>
+ *     <li>304 로 답할지 정하는 조건부 요청은 {@link #fresh(Long)} 로 항상 DB 에서 읽습니다 (기본 키 조회 1회).</li>
+ *     <li>캐시가 yozi.data-version.cache-max-size 에 닿으면 만료된 항목을, 그래도 가득 차 있으면 가장 오래 전에 읽은 10% 를 비웁니다.</li>
+ *     <li>캐시 적재는 compute 안에서 하므로, 적재 중 커밋된 쓰기의 무효화가 적재 뒤로 밀려 오래된 값이 남지 않습니다.
+ *         단, 이전 스냅샷을 보는 트랜잭션 안에서 호출하면 안 됩니다 (컨트롤러에서 호출).</li>
+ *     <li>ETag 에 넣을 버전은 {@link #read(Long, long, Supplier)} 로 본문과 함께 얻습니다. 레플리카를 쓰면
+ *         {@link #current(Long)} (primary) 와 본문(레플리카) 이 다른 커넥션이라 복제가 늦은 본문이 새 버전으로 저장될 수 있기 때문입니다.</li>
+ * </ul>
+ */
+@Service
+public class DataVersionService {
+
+    private record Entry(long version, long loadedAtNanos) {
+    }
+
+    // 본문과 그 본문을 읽은 시점의 데이터 버전
+    public record Versioned<T>(long version, T value) {
+    }
+
+    private final ConcurrentHashMap<Long, Entry> versions = new ConcurrentHashMap<>();
+    private final UserRepository userRepository;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final TransactionTemplate readOnlyTemplate;
+    private final boolean replicaReads;
+    private final long ttlNanos;
+    private final int maxSize;
+
+    public DataVersionService(UserRepository userRepository,
+                              ReadYourWritesTracker readYourWritesTracker,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${yozi.datasource.replica.enabled:false}") boolean replicaReads,
+                              @Value("${yozi.data-version.cache-ttl:30s}") Duration ttl,
+                              @Value("${yozi.data-version.cache-max-size:100000}") int maxSize) {
+        this.userRepository = userRepository;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+        this.replicaReads = replicaReads;
+        this.ttlNanos = ttl.toNanos();
+        this.maxSize = maxSize;
+    }
+
+    public long current(Long userId) {
+        Entry entry = versions.get(userId);
+        if (entry != null && !isExpired(entry)) {
+            return entry.version();
+        }
+        evictIfFull();
+        return versions.compute(userId, (id, old) -> old != null && !isExpired(old) ? old : load(id)).version();
+    }
+
+    /**
+     * 캐시를 거치지 않고 DB 에서 읽어 캐시도 갱신합니다. 클라이언트가 가진 ETag 가 여전히 맞는지(304) 판단할 때 사용합니다.
+     */
+    public long fresh(Long userId) {
+        evictIfFull();
+        return versions.compute(userId, (id, old) -> load(id)).version();
+    }
+
+    /**
+     * 본문을 읽고, 그 본문과 같은 데이터를 본 버전을 함께 돌려줍니다.
+     * 레플리카를 쓰면 하나의 읽기 전용 트랜잭션(같은 커넥션, 같은 스냅샷) 안에서 버전을 먼저 읽고 본문을 읽으므로,
+     * 복제가 늦은 레플리카가 읽은 본문에는 그만큼 오래된 버전이 붙어 다음 요청에서 다시 계산됩니다.
+     * 레플리카가 없으면 모든 읽기가 primary 이고 knownVersion 은 본문보다 먼저 읽었으므로 그대로 씁니다.
+     *
+     * @param knownVersion 본문을 읽기 전에 {@link #current(Long)} 로 얻은 버전
+     */
+    public <T> Versioned<T> read(Long userId, long knownVersion, Supplier<T> reader) {
+        if (!replicaReads) {
+            return new Versioned<>(knownVersion, reader.get());
+        }
+        return readOnlyTemplate.execute(status -> {
+            long version = userRepository.findDataVersionById(userId).orElse(0L);
+            return new Versioned<>(version, reader.get());
+        });
+    }
+
+    // 읽기 전용 트랜잭션이 레플리카로 갈 수 있는지 (yozi.datasource.replica.enabled)
+    public boolean readsFromReplicas() {
+        return replicaReads;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void bump(Long userId) {
+        userRepository.incrementDataVersion(userId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                versions.remove(userId);
+                if (status == STATUS_COMMITTED) {
+                    // 레플리카 라우팅: 잠시 이 사용자의 읽기는 primary 로
+                    readYourWritesTracker.recordWrite(userId);
+                }
+            }
+        });
+    }
+
+    /**
+     * 배치 쓰기용: 여러 사용자의 버전을 UPDATE 한 번으로 올리고 완료 후 캐시 항목을 지웁니다.
+     * 사용자가 직접 한 쓰기가 아니므로 read-your-writes 에는 기록하지 않습니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void bumpAll(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        userRepository.incrementDataVersions(userIds);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                userIds.forEach(versions::remove);
+            }
+        });
+    }
+
+    private Entry load(Long userId) {
+        long version = userRepository.findDataVersionById(userId).orElse(0L);
+        return new Entry(version, System.nanoTime());
+    }
+
+    // 동시에 가득 찬 것을 본 스레드들이 한 번씩만 비우도록 synchronized 안에서 크기를 다시 확인
+    private synchronized void evictIfFull() {
+        if (versions.size() < maxSize) {
+            return;
+        }
+        versions.values().removeIf(this::isExpired);
+        if (versions.size() >= maxSize) {
+            long[] loaded = versions.values().stream().mapToLong(Entry::loadedAtNanos).sorted().toArray();
+            long cutoff = loaded[loaded.length / 10];
+            versions.values().removeIf(entry -> entry.loadedAtNanos() <= cutoff);
+        }
+    }
+
+    private boolean isExpired(Entry entry) {
+        return System.nanoTime() - entry.loadedAtNanos() > ttlNanos;
+    }
+}
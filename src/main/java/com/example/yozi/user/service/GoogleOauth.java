@@ -36,7 +36,7 @@ public class GoogleOauth implements SocialOauth {
     @Value("${oauth.google.userinfo.url}") // 변경된 키 이름
     private String userInfoUrl;
 
-    private final RestTemplate restTemplate = new RestTemplate(); // HTTP 요청을 위한 RestTemplate
+    private final RestTemplate googleRestTemplate; // 공유 커넥션 풀 + 타임아웃 (OauthHttpClientConfig)
 
     @Override
     public String getOauthRedirectURL() {
@@ -72,7 +72,7 @@ public class GoogleOauth implements SocialOauth {
         HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(params, headers);
 
         // 구글 토큰 발급 API 호출
-        ResponseEntity<String> response = restTemplate.exchange(tokenUrl, HttpMethod.POST, request, String.class);
+        ResponseEntity<String> response = googleRestTemplate.exchange(tokenUrl, HttpMethod.POST, request, String.class);
 
         if (response.getStatusCode() == HttpStatus.OK) {
             return response.getBody(); // JSON (access_token 포함)
@@ -92,7 +92,7 @@ public class GoogleOauth implements SocialOauth {
         HttpEntity<Void> request = new HttpEntity<>(headers);
 
         // 구글 사용자 정보 API 호출
-        ResponseEntity<String> response = restTemplate.exchange(userInfoUrl, HttpMethod.GET, request, String.class);
+        ResponseEntity<String> response = googleRestTemplate.exchange(userInfoUrl, HttpMethod.GET, request, String.class);
 
         if (response.getStatusCode() == HttpStatus.OK) {
             return response.getBody(); // JSON (사용자 정보 포함)
@@ -1,36 +1,29 @@
 package com.example.yozi.user.service;
 
+import com.example.yozi.jwt.JwtKeyHolder;
 import com.example.yozi.user.entity.User;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.security.Key;
 import java.util.Date;
 // Claims 임포트 추가 (필요 시)
 // import io.jsonwebtoken.Claims;
 
 
 @Service
+@RequiredArgsConstructor
 public class JwtService {
 
-    // JWT 서명에 사용할 비밀 키 (application.properties 또는 application.yml에서 주입받아 사용)
-    @Value("${jwt.secret}")
-    private String secretKey;
+    // JWT 서명 키 (jwt.secret 으로 한 번만 생성, JwtAuthenticationFilter 와 공유)
+    private final JwtKeyHolder jwtKeyHolder;
 
     // JWT 만료 시간 (밀리초 단위, 예: 1시간)
     @Value("${jwt.expiration}")
     private long expirationTime; // 3600000L (1시간)
 
-    // 비밀 키를 디코딩하여 Key 객체로 반환
-    private Key getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
-
     /**
      * 사용자 정보를 기반으로 JWT를 생성합니다.
      * @param user JWT에 포함될 사용자 정보
@@ -49,7 +42,7 @@ public class JwtService {
                 .claim("nickname", user.getNickname()) // 닉네임
                 .setIssuedAt(now) // 토큰 발행 시간
                 .setExpiration(expiryDate) // 토큰 만료 시간
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256) // 서명에 사용할 키와 알고리즘
+                .signWith(jwtKeyHolder.getSigningKey(), SignatureAlgorithm.HS256) // 서명에 사용할 키와 알고리즘
                 .compact(); // JWT 생성
     }
 
@@ -31,7 +31,7 @@ public class KakaoOauth implements SocialOauth {
     @Value("${oauth.kakao.userinfo.url}") // 변경된 키 이름
     private String userInfoUrl;
 
-    private final RestTemplate restTemplate = new RestTemplate(); // HTTP 요청을 위한 RestTemplate
+    private final RestTemplate kakaoRestTemplate; // 공유 커넥션 풀 + 타임아웃 (OauthHttpClientConfig)
 
     @Override
     public String getOauthRedirectURL() {
@@ -70,7 +70,7 @@ public class KakaoOauth implements SocialOauth {
         HttpEntity<String> request = new HttpEntity<>(body, headers);
 
         // 카카오 토큰 발급 API 호출
-        ResponseEntity<String> response = restTemplate.exchange(tokenUrl, HttpMethod.POST, request, String.class);
+        ResponseEntity<String> response = kakaoRestTemplate.exchange(tokenUrl, HttpMethod.POST, request, String.class);
 
         if (response.getStatusCode() == HttpStatus.OK) {
             return response.getBody(); // JSON (access_token 포함)
@@ -90,7 +90,7 @@ public class KakaoOauth implements SocialOauth {
         HttpEntity<Void> request = new HttpEntity<>(headers);
 
         // 카카오 사용자 정보 API 호출
-        ResponseEntity<String> response = restTemplate.exchange(userInfoUrl, HttpMethod.GET, request, String.class);
+        ResponseEntity<String> response = kakaoRestTemplate.exchange(userInfoUrl, HttpMethod.GET, request, String.class);
 
         if (response.getStatusCode() == HttpStatus.OK) {
             return response.getBody(); // JSON (사용자 정보 포함)
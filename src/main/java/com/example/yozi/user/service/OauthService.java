@@ -17,6 +17,7 @@ public class OauthService {
     private final List<SocialOauth> socialOauthList; // 등록된 모든 SocialOauth 구현체 리스트
     private final UserRepository userRepository;
     private final JwtService jwtService; // JwtService 주입
+    private final ObjectMapper objectMapper; // Spring 이 관리하는 공용 ObjectMapper (스레드 안전)
 
     /**
      * 특정 소셜 타입에 해당하는 OAuth 리다이렉트 URL을 반환합니다.
@@ -86,7 +87,7 @@ public class OauthService {
      */
     private JsonNode parse(String json) {
         try {
-            return new ObjectMapper().readTree(json);
+            return objectMapper.readTree(json);
         } catch (Exception e) {
             throw new RuntimeException("JSON 파싱 오류", e);
         }
@@ -100,7 +101,7 @@ public class OauthService {
      */
     private String extractAccessToken(String tokenJson) {
         try {
-            return new ObjectMapper().readTree(tokenJson).path("access_token").asText();
+            return objectMapper.readTree(tokenJson).path("access_token").asText();
         } catch (Exception e) {
             throw new RuntimeException("액세스 토큰 추출 실패", e);
         }
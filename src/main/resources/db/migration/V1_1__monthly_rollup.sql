@@ -0,0 +1,14 @@
+-- 사용자·월·유형·카테고리별 수입/지출 합계 (MonthlyRollupService 가 거래 쓰기와 함께 갱신)
+-- V1 은 기존 DB 에서 baseline 으로 건너뛰므로 별도 버전으로 만듦 (V6 인덱스보다 먼저)
+CREATE TABLE monthly_rollup (
+    id           BIGINT NOT NULL AUTO_INCREMENT,
+    user_id      BIGINT NOT NULL,
+    rollup_month INT    NOT NULL,
+    type         ENUM ('INCOME', 'EXPENSE') NOT NULL,
+    category_id  INT    NOT NULL,
+    amount       BIGINT NOT NULL,
+    tx_count     BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_monthly_rollup_bucket UNIQUE (user_id, rollup_month, type, category_id),
+    CONSTRAINT fk_monthly_rollup_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
@@ -0,0 +1,49 @@
+-- Hibernate(ddl-auto) 가 만들던 스키마 그대로. 이미 테이블이 있는 DB 는 V1 로 baseline 처리되어 이 파일을 건너뛰므로 새 테이블은 V1 이후 버전에 둠
+CREATE TABLE users (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    social_id   VARCHAR(255) NOT NULL,
+    social_type ENUM ('KAKAO', 'GOOGLE') NOT NULL,
+    nickname    VARCHAR(255) NOT NULL,
+    email       VARCHAR(255),
+    created_at  DATETIME(6)  NOT NULL,
+    updated_at  DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_social_id UNIQUE (social_id)
+);
+
+CREATE TABLE category (
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    type         ENUM ('FOOD_DINING', 'HOUSING_UTILITIES', 'TRANSPORTATION', 'SHOPPING_FASHION',
+                       'HEALTH_MEDICAL', 'EDUCATION', 'LEISURE_CULTURE', 'FINANCE_OTHERS') NOT NULL,
+    display_name VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_category_type UNIQUE (type)
+);
+
+CREATE TABLE transactions (
+    id               BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id          BIGINT       NOT NULL,
+    type             ENUM ('INCOME', 'EXPENSE'),
+    category_id      INT,
+    payment_method   ENUM ('CASH', 'CARD'),
+    vendor           VARCHAR(255),
+    amount           INT,
+    memo             TEXT,
+    transaction_date DATE,
+    created_at       DATETIME(6),
+    updated_at       DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_transactions_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE budget (
+    id           BIGINT NOT NULL AUTO_INCREMENT,
+    user_id      BIGINT,
+    category_id  BIGINT,
+    amount       INT    NOT NULL,
+    budget_month DATE,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_budget_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_budget_category FOREIGN KEY (category_id) REFERENCES category (id)
+);
+
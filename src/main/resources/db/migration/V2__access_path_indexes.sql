@@ -0,0 +1,15 @@
+-- findByUserAndCategoryAndBudgetMonth 를 뒷받침하는 유니크 키. 중복 행은 가장 최근 것만 남김
+DELETE FROM budget
+WHERE id NOT IN (SELECT id FROM (SELECT MAX(id) AS id FROM budget GROUP BY user_id, budget_month, category_id) keep_rows);
+
+-- sumAmountByUserAndMonth, findByUserAndBudgetMonth, findByUserAndCategoryAndBudgetMonth, summarizeMonths
+CREATE UNIQUE INDEX uk_budget_user_month_category ON budget (user_id, budget_month, category_id);
+
+-- findByUserId, findByUserIdAndTransactionDateBetween, sumAmountByUserAndDateRangeAndType (amount 까지 커버)
+CREATE INDEX idx_tx_user_date_type ON transactions (user_id, transaction_date, type, amount);
+
+-- findByUserIdAndType
+CREATE INDEX idx_tx_user_type_date ON transactions (user_id, type, transaction_date);
+
+-- findByUserIdAndCategoryId
+CREATE INDEX idx_tx_user_category_date ON transactions (user_id, category_id, transaction_date);
@@ -0,0 +1,3 @@
+-- 거래 목록 keyset 페이지네이션 (transaction_date DESC, id DESC)
+-- 유형/카테고리별 목록은 기존 idx_tx_user_type_date, idx_tx_user_category_date (+ InnoDB PK) 를 사용
+CREATE INDEX idx_tx_user_date_id ON transactions (user_id, transaction_date, id);
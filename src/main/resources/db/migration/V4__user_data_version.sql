@@ -0,0 +1,2 @@
+-- 사용자별 데이터 버전 (거래/예산 쓰기마다 +1). 조회 API 의 ETag 로 사용
+ALTER TABLE users ADD COLUMN data_version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,33 @@
+-- 월별 소비 습관 점수 (야간 배치가 계산, 분석 API 는 저장된 점수가 없는 달만 즉석 계산)
+CREATE TABLE habit_score (
+    id                 BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id            BIGINT      NOT NULL,
+    score_month        INT         NOT NULL,
+    score              INT         NOT NULL,
+    budget_score       INT         NOT NULL,
+    balance_score      INT         NOT NULL,
+    record_score       INT         NOT NULL,
+    stability_score    INT         NOT NULL,
+    recorded_days      INT         NOT NULL,
+    as_of              DATE        NOT NULL,
+    computed_at        DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_habit_score_user_month UNIQUE (user_id, score_month),
+    CONSTRAINT fk_habit_score_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+-- 배치 진행 상황 (실행일·파티션별 마지막 처리 사용자). 중단되면 last_user_id 다음부터 재개.
+-- claimed_by/claimed_until 은 파티션을 처리 중인 인스턴스와 임대 만료 시각 (여러 인스턴스가 같은 파티션을 동시에 돌지 않도록)
+CREATE TABLE habit_score_progress (
+    run_date      DATE        NOT NULL,
+    partition_no  INT         NOT NULL,
+    range_start   BIGINT      NOT NULL,
+    range_end     BIGINT      NOT NULL,
+    last_user_id  BIGINT      NOT NULL,
+    scored_users  BIGINT      NOT NULL,
+    done          BOOLEAN     NOT NULL,
+    claimed_by    VARCHAR(64),
+    claimed_until DATETIME(6),
+    updated_at    DATETIME(6) NOT NULL,
+    PRIMARY KEY (run_date, partition_no)
+);
@@ -0,0 +1,2 @@
+-- 월별 추이 조회 (user_id, rollup_month 범위 → type, category_id, amount) 를 인덱스만으로 처리
+CREATE INDEX idx_rollup_user_month_amount ON monthly_rollup (user_id, rollup_month, type, category_id, amount);
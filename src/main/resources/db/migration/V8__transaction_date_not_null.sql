@@ -0,0 +1,8 @@
+-- 거래 목록 keyset 커서 (transaction_date, id) 는 NULL 날짜를 비교할 수 없어 그런 거래가 목록에서 빠지므로 날짜를 필수로 함
+-- 날짜 없이 저장된 기존 거래는 등록일로 채움 (등록일도 없으면 마이그레이션 날짜)
+UPDATE transactions
+SET transaction_date = CAST(COALESCE(created_at, updated_at, CURRENT_TIMESTAMP) AS DATE)
+WHERE transaction_date IS NULL;
+
+-- MODIFY 는 MySQL 전용 문법이라 H2 기본 모드에서도 실행되는 CHECK 로 NOT NULL 을 강제 (MySQL 8.0.16 부터 검사)
+ALTER TABLE transactions ADD CONSTRAINT ck_transactions_date_not_null CHECK (transaction_date IS NOT NULL);
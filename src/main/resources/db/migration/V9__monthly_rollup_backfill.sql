@@ -0,0 +1,10 @@
+-- 기존 거래로 monthly_rollup 을 채움 (MonthlyRollupRepository.TRANSACTION_BUCKETS 와 같은 집계).
+-- Flyway 는 애플리케이션이 요청을 받기 전에 실행되므로 이 인스턴스의 쓰기와는 겹치지 않음.
+-- 롤링 배포로 이전 버전 인스턴스가 함께 떠 있으면 그 쓰기는 집계되지 않으므로, 배포가 끝난 뒤
+-- --rollup=verify 로 확인하고 불일치가 있으면 --rollup=rebuild (서비스 중 실행 가능) 로 맞춤
+INSERT INTO monthly_rollup (user_id, rollup_month, type, category_id, amount, tx_count)
+SELECT t.user_id, YEAR(t.transaction_date) * 100 + MONTH(t.transaction_date), t.type, COALESCE(t.category_id, 0),
+       SUM(t.amount), COUNT(*)
+FROM transactions t
+WHERE t.transaction_date IS NOT NULL AND t.type IS NOT NULL AND t.amount IS NOT NULL
+GROUP BY t.user_id, YEAR(t.transaction_date) * 100 + MONTH(t.transaction_date), t.type, COALESCE(t.category_id, 0);
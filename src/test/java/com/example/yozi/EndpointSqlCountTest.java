@@ -0,0 +1,529 @@
+package com.example.yozi;
+
+import com.example.yozi.category.entity.enums.CategoryType;
+import com.example.yozi.category.service.CategoryRegistry;
+import com.example.yozi.support.CountSql;
+import com.example.yozi.support.SqlCounter;
+import com.example.yozi.support.SqlStatements;
+import com.example.yozi.transaction.service.MonthlyRollupService;
+import com.example.yozi.user.entity.User;
+import com.example.yozi.user.entity.enums.SocialType;
+import com.example.yozi.user.repository.UserRepository;
+import com.example.yozi.user.service.JwtService;
+import com.example.yozi.user.service.KakaoOauth;
+import com.example.yozi.user.service.UserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 모든 컨트롤러 엔드포인트의 요청당 SQL 문 수 기준선 (H2 MySQL 모드).
+ * 상한은 현재 구현의 쿼리 수이며, 데이터 건수(거래 500건, 예산 8개 카테고리)와 무관해야 합니다.
+ * 조건부 GET 은 ETag 용 데이터 버전 조회 1회가 포함됩니다 (yozi.data-version.cache-ttl=0s 로 항상 DB 조회).
+ * 쿼리를 줄였다면 상한도 함께 낮춥니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(locations = "classpath:sql-count-test.properties")
+@CountSql
+class EndpointSqlCountTest {
+
+    private static final long USER_ID = 1L;
+    private static final String SOCIAL_ID = "1001";
+    private static final int TRANSACTIONS = 500;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private CategoryRegistry categoryRegistry;
+
+    @Autowired
+    private MonthlyRollupService monthlyRollupService;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockitoBean
+    private KakaoOauth kakaoOauth;
+
+    private final LocalDate today = LocalDate.now();
+    private String bearer;
+
+    @BeforeEach
+    void seedLedger() {
+        when(kakaoOauth.type()).thenReturn(SocialType.KAKAO);
+        when(kakaoOauth.getOauthRedirectURL()).thenReturn("https://kauth.kakao.com/oauth/authorize?client_id=test-client");
+        when(kakaoOauth.requestAccessToken(anyString())).thenReturn("{\"access_token\":\"stub-token\"}");
+        when(kakaoOauth.requestUserInfo(anyString())).thenReturn(
+                "{\"id\":" + SOCIAL_ID + ",\"properties\":{\"nickname\":\"쿼리\"}}");
+
+        bearer = "Bearer " + jwtService.generateToken(User.builder()
+                .id(USER_ID)
+                .socialId(SOCIAL_ID)
+                .socialType(SocialType.KAKAO)
+                .nickname("쿼리")
+                .build());
+
+        if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class) > 0) {
+            return;
+        }
+        jdbcTemplate.update("INSERT INTO users (id, social_id, social_type, nickname, created_at, updated_at) " +
+                "VALUES (?, ?, 'KAKAO', '쿼리', NOW(), NOW())", USER_ID, SOCIAL_ID);
+
+        // 카테고리는 local 프로필의 CategoryInitializer 가 넣으므로 직접 (id 1부터 CategoryType 순서대로)
+        for (CategoryType type : CategoryType.values()) {
+            jdbcTemplate.update("INSERT INTO category (id, type, display_name) VALUES (?, ?, ?)",
+                    type.ordinal() + 1, type.name(), type.getDisplayName());
+            jdbcTemplate.update("INSERT INTO budget (user_id, category_id, amount, budget_month) VALUES (?, ?, ?, ?)",
+                    USER_ID, type.ordinal() + 1, 100_000, Date.valueOf(today.withDayOfMonth(1)));
+        }
+        categoryRegistry.refresh();
+
+        // 이번 달 포함 최근 3개월, 모든 카테고리에 고르게
+        List<Object[]> batch = new ArrayList<>();
+        for (int i = 0; i < TRANSACTIONS; i++) {
+            LocalDate month = today.minusMonths(i % 3).withDayOfMonth(1);
+            batch.add(new Object[]{USER_ID, i % 10 == 0 ? "INCOME" : "EXPENSE", 1 + i % 8, "CARD",
+                    "가맹점 " + (i % 40), 1_000 + i * 37 % 50_000,
+                    Date.valueOf(month.plusDays(i % month.lengthOfMonth()))});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO transactions " +
+                "(user_id, type, category_id, payment_method, vendor, amount, transaction_date) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?)", batch);
+        monthlyRollupService.rebuild();
+    }
+
+    // ---- 거래 ----
+
+    @Test
+    void listingTransactionsIsTwoSelectsRegardlessOfPageSize(SqlCounter sql) throws Exception {
+        sql.perform(mockMvc, authorized(get("/api/transactions")).param("limit", "200"),
+                        status().isOk(), jsonPath("$.items.length()").value(200))
+                .assertSelectsAtMost(2)
+                .assertReadOnly();
+    }
+
+    // 해석할 수 없는 커서는 조회 없이 400
+    @Test
+    void listingTransactionsWithMalformedCursor(SqlCounter sql) throws Exception {
+        sql.perform(mockMvc, authorized(get("/api/transactions")).param("cursor", "not-a-cursor"),
+                        status().isBadRequest())
+                .assertTotalAtMost(0);
+    }
+
+    @Test
+    void listingTransactionsByType(SqlCounter sql) throws Exception {
+        sql.perform(mockMvc, authorized(get("/api/transactions")).param("type", "expense").param("limit", "200"),
+                        status().isOk())
+                .assertSelectsAtMost(2)
+                .assertReadOnly();
+    }
+
+    @Test
+    void listingTransactionsByCategory(SqlCounter sql) throws Exception {
+        sql.perform(mockMvc, authorized(get("/api/transactions/category/1")).param("limit", "200"), status().isOk())
+                .assertSelectsAtMost(2)
+                .assertReadOnly();
+    }
+
+    // INSERT 거래 + 월별 집계 upsert, UPDATE 데이터 버전, SELECT 닉네임
+    @Test
+    void creatingTransaction(SqlCounter sql) throws Exception {
+        sql.perform(mockMvc, authorized(post("/api/transactions"))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(transactionJson(4_500)),
+                        status().isCreated())
+                .assertSelectsAtMost(1)
+                .assertInsertsAtMost(2)
+                .assertUpdatesAtMost(1)
+                .assertDeletesAtMost(0);
+    }
+
+    // 날짜 없는 거래는 목록 커서에서 빠지므로 저장하지 않고 400
+    @Test
+    void creatingTransactionWithoutDate(SqlCounter sql) throws Exception {
+        sql.perform(mockMvc, authorized(post("/api/transactions"))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"type\":\"EXPENSE\",\"categoryId\":1,\"amount\":4500}"),
+                        status().isBadRequest())
+                .assertTotalAtMost(0);
+    }
+
+    // 금액만 바꾸면 같은 집계 버킷이라 upsert 1회
+    @Test
+    void updatingTransaction(SqlCounter sql) throws Exception {
+        long id = createTransaction(8_000);
+
+        sql.perform(mockMvc, authorized(put("/api/transactions/" + id))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(transactionJson(9_000)),
+                        status().isOk())
+                .assertSelectsAtMost(2)
+                .assertInsertsAtMost(1)
+                .assertUpdatesAtMost(2)
+                .assertDeletesAtMost(0);
+    }
+
+    @Test
+    void deletingTransaction(SqlCounter sql) throws Exception {
+        long id = createTransaction(12_000);
+
+        sql.perform(mockMvc, authorized(delete("/api/transactions/" + id)), status().isNoContent())
+                .assertSelectsAtMost(1)
+                .assertInsertsAtMost(1)
+                .assertUpdatesAtMost(1)
+                .assertDeletesAtMost(1);
+    }
+
+    // 거래 건수와 무관하게 스트리밍 조회 1회
+    @Test
+    void exportingTransactions(SqlCounter sql) throws Exception {
+        sql.perform(mockMvc, authorized(get("/api/transactions/export")),
+                        status().isOk(), header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)))
+                .assertSelectsAtMost(1)
+                .assertReadOnly();
+    }
+
+    @Test
+    void exportingWithUnknownFormat(SqlCounter sql) throws Exception {
+        sql.perform(mockMvc, authorized(get("/api/transactions/export")).param("format", "xlsx"),
+                        status().isBadRequest())
+                .assertTotalAtMost(0);
+    }
+
+    // 내보내기 스트림이 MySQL 에서 결과 전체를 버퍼링하지 않도록 기본 설정으로 커서 fetch 를 켬
+    @Test
+    void connectionPoolEnablesCursorFetch() throws Exception {
+        HikariDataSource pool = DataSourceUnwrapper.unwrap(dataSource, HikariConfigMXBean.class, HikariDataSource.class);
+
+        assertThat(pool.getDataSourceProperties()).containsEntry("useCursorFetch", "true");
+    }
+
+    // 한 배치 안에서는 행 수와 무관하게 INSERT 배치 1회 + 버킷별 upsert + 버전 UPDATE 1회
+    @Test
+    void importingStatement(SqlCounter sql) throws Exception {
+        StringBuilder csv = new StringBuilder("date,type,category,paymentMethod,vendor,amount,memo\n");
+        for (int i = 0; i < 300; i++) {
+            csv.append(today.withDayOfMonth(1)).append(",EXPENSE,FOOD_DINING,CARD,편의점,").append(1_000 + i).append(",\n");
+        }
+        MockMultipartFile file = new MockMultipartFile("file", "statement.csv", "text/csv",
+                csv.toString().getBytes(StandardCharsets.UTF_8));
+
+        SqlStatements statements = sql.perform(mockMvc, authorized(multipart("/api/transactions/import").file(file)),
+                        status().isOk(), jsonPath("$.imported").value(300))
+                .assertSelectsAtMost(0)
+                .assertInsertsAtMost(2)
+                .assertUpdatesAtMost(1);
+
+        // 가져오기는 JdbcTemplate 으로만 쓰므로 요청당 SQL 문 수 지표가 JPA 밖의 SQL 도 세는지 확인
+        assertThat(meterRegistry.get("yozi.http.statements").tag("uri", "/api/transactions/import").summary().max())
+                .isEqualTo(statements.total());
+    }
+
+    // 잘못된 요청 파라미터와 헤더 없는 파일은 SQL 없이 400
+    @Test
+    void importingWithInvalidParameters(SqlCounter sql) throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "statement.csv", "text/csv",
+                "date,amount\n2026-03-01,1000\n".getBytes(StandardCharsets.UTF_8));
+        MockMultipartFile empty = new MockMultipartFile("file", "statement.csv", "text/csv", new byte[0]);
+
+        sql.perform(mockMvc, authorized(multipart("/api/transactions/import").file(file).param("charset", "no-such-charset")),
+                        status().isBadRequest())
+                .assertTotalAtMost(0);
+        sql.perform(mockMvc, authorized(multipart("/api/transactions/import").file(file).param("amountSign", "sideways")),
+                        status().isBadRequest())
+                .assertTotalAtMost(0);
+        sql.perform(mockMvc, authorized(multipart("/api/transactions/import").file(empty)),
+                        status().isBadRequest())
+                .assertTotalAtMost(0);
+    }
+
+    // ---- 예산 ----
+
+    // 기존 예산 조회 1회 + upsert 배치 1회 + 버전 UPDATE 1회 (카테고리 수와 무관)
+    @Test
+    void settingBudget(SqlCounter sql) throws Exception {
+        sql.perform(mockMvc, authorized(post("/api/budgets")).param("date", "2020-01-01")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(budgetsJson(200_000)),
+                        status().isOk())
+                .assertSelectsAtMost(1)
+                .assertInsertsAtMost(1)
+                .assertUpdatesAtMost(1);
+    }
+
+    // 12개월 x 8개 카테고리도 같은 문 수
+    @Test
+    void settingBudgetRange(SqlCounter sql) throws Exception {
+        sql.perform(mockMvc, authorized(post("/api/budgets/range"))
+                                .param("from", "2021-01-01").param("to", "2021-12-01")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(budgetsJson(150_000)),
+                        status().isOk())
+                .assertSelectsAtMost(1)
+                .assertInsertsAtMost(1)
+                .assertUpdatesAtMost(1);
+    }
+
+    // 카테고리를 지연 로딩으로 읽으면 카테고리마다 SELECT 가 추가됨
+    @Test
+    void gettingBudget(SqlCounter sql) throws Exception {
+        sql.perform(mockMvc, authorized(get("/api/budgets")).param("date", today.toString()),
+                        status().isOk(), jsonPath("$.length()").value(CategoryType.values().length))
+                .assertSelectsAtMost(1)
+                .assertReadOnly();
+    }
+
+    @Test
+    void budgetAmounts(SqlCounter sql) throws Exception {
+        for (String path : List.of("/api/budgets/total", "/api/budgets/spent", "/api/budgets/income",
+                "/api/budgets/remaining", "/api/budgets/exceeded")) {
+            sql.perform(mockMvc, authorized(get(path)).param("date", today.toString()), status().isOk())
+                    .assertSelectsAtMost(1)
+                    .assertReadOnly();
+        }
+    }
+
+    @Test
+    void budgetSummary(SqlCounter sql) throws Exception {
+        sql.perform(mockMvc, authorized(get("/api/budgets/summary")).param("date", today.toString()), status().isOk())
+                .assertSelectsAtMost(2)
+                .assertReadOnly();
+    }
+
+    // ETag 가 일치하면 데이터 버전만 읽고 본문은 계산하지 않음
+    @Test
+    void revalidatedSummaryOnlyReadsDataVersion(SqlCounter sql) throws Exception {
+        String etag = mockMvc.perform(authorized(get("/api/budgets/summary")).param("date", today.toString()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        sql.perform(mockMvc, authorized(get("/api/budgets/summary")).param("date", today.toString())
+                                .header(HttpHeaders.IF_NONE_MATCH, etag),
+                        status().isNotModified(), header().string(HttpHeaders.ETAG, etag))
+                .assertSelectsAtMost(1)
+                .assertReadOnly();
+    }
+
+    @Test
+    void mainSummary(SqlCounter sql) throws Exception {
+        sql.perform(mockMvc, authorized(get("/api/budgets/main/summary")), status().isOk())
+                .assertSelectsAtMost(3)
+                .assertReadOnly();
+    }
+
+    // 요약, 일별 금액, 남은 일정을 나눠 실행 (dashboardExecutor 스레드의 SQL 도 포함)
+    @Test
+    void dashboard(SqlCounter sql) throws Exception {
+        sql.perform(mockMvc, authorized(get("/api/budgets/dashboard")).param("date", today.toString()),
+                        status().isOk(), jsonPath("$.unavailable.length()").value(0))
+                .assertSelectsAtMost(4)
+                .assertReadOnly();
+    }
+
+    @Test
+    void dailyAmounts(SqlCounter sql) throws Exception {
+        sql.perform(mockMvc, authorized(get("/api/budgets/main/daily-amounts")).param("date", today.toString()),
+                        status().isOk())
+                .assertSelectsAtMost(2)
+                .assertReadOnly();
+    }
+
+    @Test
+    void amountCalendar(SqlCounter sql) throws Exception {
+        sql.perform(mockMvc, authorized(get("/api/budgets/calendar"))
+                                .param("from", today.minusMonths(11).withDayOfMonth(1).toString())
+                                .param("to", today.toString())
+                                .param("granularity", "week"),
+                        status().isOk())
+                .assertSelectsAtMost(2)
+                .assertReadOnly();
+    }
+
+    // 알 수 없는 단위는 SQL 없이, 뒤집힌 기간과 400구간 초과는 ETag 용 버전 조회 뒤 400
+    @Test
+    void amountCalendarWithInvalidParameters(SqlCounter sql) throws Exception {
+        sql.perform(mockMvc, authorized(get("/api/budgets/calendar"))
+                                .param("from", today.minusDays(7).toString())
+                                .param("to", today.toString())
+                                .param("granularity", "hour"),
+                        status().isBadRequest())
+                .assertTotalAtMost(0);
+        sql.perform(mockMvc, authorized(get("/api/budgets/calendar"))
+                                .param("from", today.toString())
+                                .param("to", today.minusDays(1).toString()),
+                        status().isBadRequest())
+                .assertSelectsAtMost(1)
+                .assertReadOnly();
+        sql.perform(mockMvc, authorized(get("/api/budgets/calendar"))
+                                .param("from", today.minusYears(2).toString())
+                                .param("to", today.toString())
+                                .param("granularity", "day"),
+                        status().isBadRequest())
+                .assertSelectsAtMost(1)
+                .assertReadOnly();
+    }
+
+    // 추이 1 + 거래 첫 페이지 1 + 습관 점수 1 + 카테고리 리포트 1 + 버전 1,
+    // 저장된 점수가 없는 달(이번 달, 지난달)은 즉석 계산으로 달마다 3회 추가
+    @Test
+    void monthlyAnalysis(SqlCounter sql) throws Exception {
+        sql.perform(mockMvc, authorized(get("/api/budgets/analysis/monthly")), status().isOk())
+                .assertSelectsAtMost(11)
+                .assertReadOnly();
+    }
+
+    @Test
+    void monthlyTrend(SqlCounter sql) throws Exception {
+        sql.perform(mockMvc, authorized(get("/api/budgets/analysis/trend"))
+                                .param("months", "120").param("byCategory", "true"),
+                        status().isOk())
+                .assertSelectsAtMost(2)
+                .assertReadOnly();
+    }
+
+    // 알 수 없는 유형은 SQL 없이, 범위 밖 개월 수는 ETag 용 버전 조회 뒤 400
+    @Test
+    void monthlyTrendWithInvalidParameters(SqlCounter sql) throws Exception {
+        sql.perform(mockMvc, authorized(get("/api/budgets/analysis/trend")).param("type", "transfer"),
+                        status().isBadRequest())
+                .assertTotalAtMost(0);
+        for (String months : List.of("0", "121")) {
+            sql.perform(mockMvc, authorized(get("/api/budgets/analysis/trend")).param("months", months),
+                            status().isBadRequest())
+                    .assertSelectsAtMost(1)
+                    .assertReadOnly();
+        }
+    }
+
+    @Test
+    void monthlyTransactions(SqlCounter sql) throws Exception {
+        sql.perform(mockMvc, authorized(get("/api/budgets/analysis/monthly/transactions"))
+                                .param("date", today.toString()).param("limit", "200"),
+                        status().isOk())
+                .assertSelectsAtMost(1)
+                .assertReadOnly();
+    }
+
+    @Test
+    void categoryReport(SqlCounter sql) throws Exception {
+        sql.perform(mockMvc, authorized(get("/api/budgets/report/categories")).param("date", today.toString()),
+                        status().isOk())
+                .assertSelectsAtMost(2)
+                .assertReadOnly();
+    }
+
+    // @CurrentUser 는 지연 참조라 id 만 쓰는 요청은 users 를 읽지 않음.
+    // 이전에는 컨트롤러마다 userService.findById 로 요청당 SELECT 1회가 더 나갔음 (위 상한은 모두 그만큼 낮아진 값)
+    @Test
+    void currentUserSkipsTheUsersLookup(SqlCounter sql) throws Exception {
+        SqlStatements lookup = sql.count(() -> userService.findById(USER_ID).orElseThrow());
+        SqlStatements reference = sql.count(() -> userRepository.getReferenceById(USER_ID).getId());
+
+        assertThat(lookup.selects()).isEqualTo(1);
+        assertThat(reference.total()).isZero();
+    }
+
+    // ---- 카테고리, 로그인 ----
+
+    // CategoryRegistry 메모리 스냅샷에서 응답
+    @Test
+    void categories(SqlCounter sql) throws Exception {
+        sql.perform(mockMvc, authorized(get("/api/categories")), status().isOk())
+                .assertTotalAtMost(0);
+    }
+
+    @Test
+    void oauthRedirect(SqlCounter sql) throws Exception {
+        sql.perform(mockMvc, get("/auth/KAKAO"), status().is3xxRedirection())
+                .assertTotalAtMost(0);
+    }
+
+    // 기존 사용자 로그인은 소셜 ID 조회 1회
+    @Test
+    void oauthCallbackForExistingUser(SqlCounter sql) throws Exception {
+        sql.perform(mockMvc, get("/auth/KAKAO/callback").param("code", "stub-code"), status().is3xxRedirection())
+                .assertSelectsAtMost(1)
+                .assertReadOnly();
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+        return request.header(HttpHeaders.AUTHORIZATION, bearer);
+    }
+
+    private long createTransaction(int amount) throws Exception {
+        String body = mockMvc.perform(authorized(post("/api/transactions"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(transactionJson(amount)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        return objectMapper.readTree(body).path("id").asLong();
+    }
+
+    private String transactionJson(int amount) {
+        return """
+                {"type":"EXPENSE","categoryId":1,"paymentMethod":"CARD","vendor":"편의점","amount":%d,"transactionDate":"%s"}
+                """.formatted(amount, today);
+    }
+
+    private String budgetsJson(int amount) {
+        List<String> items = new ArrayList<>();
+        for (CategoryType type : CategoryType.values()) {
+            items.add("{\"categoryType\":\"" + type.name() + "\",\"amount\":" + amount + "}");
+        }
+        return "[" + String.join(",", items) + "]";
+    }
+}
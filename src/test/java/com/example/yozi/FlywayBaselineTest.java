@@ -0,0 +1,59 @@
+package com.example.yozi;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hibernate(ddl-auto) 가 만든 테이블과 거래가 이미 있는 DB 에 처음 배포하는 경우.
+ * yozi-defaults.properties 와 같은 baseline 설정으로 V1 을 건너뛰고 나머지 마이그레이션이 모두 적용되는지,
+ * 기존 거래가 월별 집계로 채워지는지 확인합니다.
+ */
+class FlywayBaselineTest {
+
+    @Test
+    void existingDatabaseIsBaselinedAndMigrated() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:yozi-baseline;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V1__baseline_schema.sql")).execute(dataSource);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("INSERT INTO users (id, social_id, social_type, nickname, created_at, updated_at) " +
+                "VALUES (1, 'baseline-user', 'KAKAO', '기존', NOW(), NOW())");
+        // 날짜 없는 거래는 등록일(2026-09-30) 로 채워져 9월에 집계되고, 유형 없는 거래는 집계에서 빠짐
+        jdbcTemplate.update("INSERT INTO transactions (user_id, type, category_id, amount, transaction_date, created_at) VALUES " +
+                "(1, 'EXPENSE', 1, 1000, DATE '2026-09-01', NULL), " +
+                "(1, 'EXPENSE', 1, 2500, DATE '2026-09-15', NULL), " +
+                "(1, 'EXPENSE', NULL, 700, DATE '2026-09-20', NULL), " +
+                "(1, 'INCOME', 8, 30000, DATE '2026-10-02', NULL), " +
+                "(1, 'EXPENSE', 1, 400, NULL, TIMESTAMP '2026-09-30 21:00:00'), " +
+                "(1, NULL, 1, 900, DATE '2026-09-03', NULL)");
+
+        Flyway.configure()
+                .dataSource(dataSource)
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM flyway_schema_history " +
+                "WHERE version = '1' AND type = 'BASELINE'", Integer.class)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM transactions WHERE transaction_date IS NULL",
+                Long.class)).isZero();
+        assertThat(jdbcTemplate.queryForList("SELECT rollup_month, type, category_id, amount, tx_count FROM monthly_rollup " +
+                        "ORDER BY rollup_month, type, category_id")
+                .stream().map(row -> List.copyOf(row.values())).toList())
+                .containsExactly(
+                        List.of(202609, "EXPENSE", 0, 700L, 1L),
+                        List.of(202609, "EXPENSE", 1, 3900L, 3L),
+                        List.of(202610, "INCOME", 8, 30000L, 1L));
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.indexes " +
+                "WHERE index_name = 'idx_rollup_user_month_amount'", Integer.class)).isPositive();
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.yozi;
+
+import com.example.yozi.budget.repository.BudgetRepository;
+import com.example.yozi.category.entity.Category;
+import com.example.yozi.support.CountSql;
+import com.example.yozi.support.SqlCounter;
+import com.example.yozi.support.SqlStatements;
+import com.example.yozi.transaction.entity.enums.TransactionType;
+import com.example.yozi.transaction.repository.MonthlyRollupRepository;
+import com.example.yozi.transaction.repository.TransactionRepository;
+import com.example.yozi.user.entity.User;
+import jakarta.persistence.EntityManager;
+import net.ttddyy.dsproxy.QueryType;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Flyway 마이그레이션을 적용한 H2(MySQL 모드)에서 각 리포지토리 메서드를 실제로 호출하고,
+ * 그때 실행된 SQL 을 (datasource-proxy 로 잡은 바인딩 값과 함께) EXPLAIN 해서 풀 스캔 없이 인덱스를 쓰는지 확인합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:yozi-schema;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=none"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@CountSql
+class SchemaIndexUsageTest {
+
+    private static final LocalDate MONTH = LocalDate.of(2026, 10, 1);
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 18);
+    private static final Limit PAGE = Limit.of(51);
+
+    // H2 는 테이블 뒤 주석에 접근 방법을 표시. 조건(":") 없는 주석은 풀 스캔
+    // ("/* public.<table>.tableScan */" 또는 인덱스 전체를 읽는 "/* public.<index> */")
+    private static final Pattern FULL_SCAN = Pattern.compile("\"public\"\\.\"(\\w+)\"(?: \"\\w+\")?\\s+/\\* [^:*]+ \\*/");
+
+    // reportByCategory 는 카테고리 전체를 행으로 내보내므로 category (수십 행) 스캔은 의도된 것
+    private static final Set<String> FULL_SCAN_ALLOWED = Set.of("category");
+
+    @FunctionalInterface
+    interface RepositoryCall {
+        void run(SchemaIndexUsageTest test);
+    }
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private BudgetRepository budgetRepository;
+
+    @Autowired
+    private MonthlyRollupRepository monthlyRollupRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    static Stream<Arguments> repositoryQueries() {
+        return Stream.of(
+                query("TransactionRepository.findSchedulesByUserIdAndTransactionDateBetween", test ->
+                        test.transactionRepository.findSchedulesByUserIdAndTransactionDateBetween(1L, MONTH, MONTH.plusMonths(1).minusDays(1))),
+                query("TransactionRepository.findPageByUserId", test ->
+                        test.transactionRepository.findPageByUserId(1L, TODAY, 500L, PAGE)),
+                query("TransactionRepository.findPageByUserIdAndType", test ->
+                        test.transactionRepository.findPageByUserIdAndType(1L, TransactionType.EXPENSE, TODAY, 500L, PAGE)),
+                query("TransactionRepository.findPageByUserIdAndCategoryId", test ->
+                        test.transactionRepository.findPageByUserIdAndCategoryId(1L, 3, TODAY, 500L, PAGE)),
+                query("TransactionRepository.findDetailPageByUserIdAndTransactionDateBetween", test ->
+                        test.transactionRepository.findDetailPageByUserIdAndTransactionDateBetween(
+                                1L, MONTH, MONTH.plusMonths(1).minusDays(1), TODAY, 500L, PAGE)),
+                query("TransactionRepository.streamByUserIdAndTransactionDateBetween", test -> {
+                    try (Stream<?> rows = test.transactionRepository.streamByUserIdAndTransactionDateBetween(
+                            1L, MONTH, MONTH.plusMonths(1).minusDays(1))) {
+                        rows.count();
+                    }
+                }),
+                query("TransactionRepository.streamByUserId", test -> {
+                    try (Stream<?> rows = test.transactionRepository.streamByUserId(1L)) {
+                        rows.count();
+                    }
+                }),
+                query("TransactionRepository.sumAmountByUserAndDateRangeAndType", test ->
+                        test.transactionRepository.sumAmountByUserAndDateRangeAndType(
+                                1L, MONTH, MONTH.plusMonths(1).minusDays(1), TransactionType.EXPENSE)),
+                query("TransactionRepository.sumDailyByType", test ->
+                        test.transactionRepository.sumDailyByType(1L, TODAY.minusYears(1).plusDays(1), TODAY)),
+                query("BudgetRepository.sumAmountByUserAndMonth", test ->
+                        test.budgetRepository.sumAmountByUserAndMonth(test.user(), MONTH)),
+                query("BudgetRepository.findByUserAndCategoryAndBudgetMonth", test ->
+                        test.budgetRepository.findByUserAndCategoryAndBudgetMonth(test.user(), test.category(), MONTH)),
+                query("BudgetRepository.findByUserAndBudgetMonth", test ->
+                        test.budgetRepository.findByUserAndBudgetMonth(test.user(), MONTH)),
+                query("BudgetRepository.findByUserAndBudgetMonthBetween", test ->
+                        test.budgetRepository.findByUserAndBudgetMonthBetween(test.user(), MONTH.minusMonths(9), MONTH.plusMonths(2))),
+                query("BudgetRepository.summarizeMonths", test ->
+                        test.budgetRepository.summarizeMonths(1L, List.of(MONTH, MONTH.minusMonths(1)), List.of(202610, 202609))),
+                query("BudgetRepository.reportByCategory", test ->
+                        test.budgetRepository.reportByCategory(1L, MONTH, 202610)),
+                query("MonthlyRollupRepository.sumByMonth", test ->
+                        test.monthlyRollupRepository.sumByMonth(1L, 202411, 202610, null)),
+                query("MonthlyRollupRepository.sumByMonth(type)", test ->
+                        test.monthlyRollupRepository.sumByMonth(1L, 202411, 202610, TransactionType.EXPENSE)),
+                query("MonthlyRollupRepository.sumAmountByUserAndMonthAndType", test ->
+                        test.monthlyRollupRepository.sumAmountByUserAndMonthAndType(1L, 202610, TransactionType.EXPENSE))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositoryQueries")
+    void repositoryQueryUsesIndex(String query, RepositoryCall call, SqlCounter sql) throws Exception {
+        SqlStatements executed = sql.count(() -> call.run(this));
+        List<SqlStatements.Statement> selects = executed.statements().stream()
+                .filter(statement -> statement.type() == QueryType.SELECT)
+                .toList();
+        assertThat(selects).as("%s 가 SELECT 를 실행하지 않음", query).isNotEmpty();
+
+        for (SqlStatements.Statement select : selects) {
+            String plan = jdbcTemplate.queryForObject("EXPLAIN " + select.sql(), String.class,
+                    select.parameters().toArray());
+
+            assertThat(fullScans(plan))
+                    .as("%s%nSQL: %s%n실행 계획:%n%s", query, select.sql(), plan)
+                    .isEmpty();
+        }
+    }
+
+    private static Arguments query(String name, RepositoryCall call) {
+        return Arguments.of(name, call);
+    }
+
+    private static List<String> fullScans(String plan) {
+        Matcher matcher = FULL_SCAN.matcher(plan);
+        return matcher.results()
+                .map(result -> result.group(1))
+                .filter(table -> !FULL_SCAN_ALLOWED.contains(table))
+                .toList();
+    }
+
+    private User user() {
+        return entityManager.getReference(User.class, 1L);
+    }
+
+    private Category category() {
+        return entityManager.getReference(Category.class, 3L);
+    }
+}
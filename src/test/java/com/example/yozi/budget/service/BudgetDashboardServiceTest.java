@@ -0,0 +1,54 @@
+package com.example.yozi.budget.service;
+
+import com.example.yozi.budget.dto.DashboardDto;
+import com.example.yozi.user.entity.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class BudgetDashboardServiceTest {
+
+    private final BudgetService budgetService = mock(BudgetService.class);
+    private final BudgetSummaryEngine budgetSummaryEngine = mock(BudgetSummaryEngine.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final User user = User.builder().id(1L).build();
+
+    // 실행기가 가득 차면 요청 스레드에서 대신 실행하지 않고 그 부분만 비움
+    @Test
+    void rejectedPartsAreUnavailableWithoutRunningOnCaller() {
+        TaskExecutor full = task -> {
+            throw new TaskRejectedException("full");
+        };
+
+        DashboardDto dashboard = service(full, Duration.ofSeconds(2)).getDashboard(user, LocalDate.of(2025, 3, 10));
+
+        assertThat(dashboard.unavailable()).containsExactlyInAnyOrder("summary", "dailyAmounts", "futureSchedules");
+        verifyNoInteractions(budgetService, budgetSummaryEngine, transactionManager);
+    }
+
+    // 대기열에서 제한 시간이 지난 부분은 응답에서 빠지고, 늦게 시작되어도 쿼리를 실행하지 않음
+    @Test
+    void partsQueuedPastTheTimeoutAreSkipped() {
+        List<Runnable> queued = new ArrayList<>();
+
+        DashboardDto dashboard = service(queued::add, Duration.ofMillis(50)).getDashboard(user, LocalDate.of(2025, 3, 10));
+        queued.forEach(Runnable::run);
+
+        assertThat(dashboard.unavailable()).containsExactlyInAnyOrder("summary", "dailyAmounts", "futureSchedules");
+        verifyNoInteractions(budgetService, budgetSummaryEngine, transactionManager);
+    }
+
+    private BudgetDashboardService service(TaskExecutor executor, Duration partTimeout) {
+        return new BudgetDashboardService(budgetService, budgetSummaryEngine, executor, transactionManager, partTimeout);
+    }
+}
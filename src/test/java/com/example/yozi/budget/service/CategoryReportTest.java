@@ -0,0 +1,111 @@
+package com.example.yozi.budget.service;
+
+import com.example.yozi.budget.dto.CategoryBudgetReportDto;
+import com.example.yozi.budget.repository.BudgetRepository;
+import com.example.yozi.category.entity.enums.CategoryType;
+import com.example.yozi.category.service.CategoryRegistry;
+import com.example.yozi.transaction.repository.MonthlyRollupRepository;
+import com.example.yozi.transaction.repository.TransactionRepository;
+import com.example.yozi.user.entity.User;
+import com.example.yozi.user.service.DataVersionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * BudgetRepository.reportByCategory 와 그 결과로 만든 카테고리별 예산 대비 지출의 값.
+ * 다른 달, 다른 사용자, 수입은 빠지고, 카테고리 없는 지출(category_id 0)과 삭제된 카테고리의 지출은 미분류 한 행으로 모입니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:yozi-category-report;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=none"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(CategoryRegistry.class)
+class CategoryReportTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2026, 3);
+
+    @Autowired
+    private BudgetRepository budgetRepository;
+
+    @Autowired
+    private CategoryRegistry categoryRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private BudgetService budgetService;
+
+    // 총 지출 200,000 = 식료품 120,000 (예산 초과) + 주거 20,000 + 쇼핑 40,000 (예산 없음) + 미분류 15,000 + 삭제된 카테고리 5,000
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("INSERT INTO users (id, social_id, social_type, nickname, created_at, updated_at) VALUES " +
+                "(1, 'report-user', 'KAKAO', '리포트', NOW(), NOW()), (2, 'other-user', 'KAKAO', '다른', NOW(), NOW())");
+        for (CategoryType type : List.of(CategoryType.FOOD_DINING, CategoryType.HOUSING_UTILITIES,
+                CategoryType.TRANSPORTATION, CategoryType.SHOPPING_FASHION, CategoryType.HEALTH_MEDICAL)) {
+            jdbcTemplate.update("INSERT INTO category (id, type, display_name) VALUES (?, ?, ?)",
+                    type.ordinal() + 1, type.name(), type.getDisplayName());
+        }
+        categoryRegistry.refresh();
+
+        jdbcTemplate.update("INSERT INTO budget (user_id, category_id, amount, budget_month) VALUES " +
+                "(1, 1, 100000, DATE '2026-03-01'), (1, 2, 50000, DATE '2026-03-01'), (1, 3, 30000, DATE '2026-03-01'), " +
+                "(1, 4, 999, DATE '2026-02-01'), (2, 1, 777, DATE '2026-03-01')");
+        jdbcTemplate.update("INSERT INTO monthly_rollup (user_id, rollup_month, type, category_id, amount, tx_count) VALUES " +
+                "(1, 202603, 'EXPENSE', 1, 120000, 4), (1, 202603, 'EXPENSE', 2, 20000, 1), " +
+                "(1, 202603, 'EXPENSE', 4, 40000, 2), (1, 202603, 'EXPENSE', 0, 15000, 3), " +
+                "(1, 202603, 'EXPENSE', 99, 5000, 1), (1, 202603, 'INCOME', 1, 500000, 1), " +
+                "(1, 202602, 'EXPENSE', 1, 7, 1), (2, 202603, 'EXPENSE', 1, 888, 1)");
+
+        budgetService = new BudgetService(budgetRepository, categoryRegistry, mock(TransactionRepository.class),
+                mock(MonthlyRollupRepository.class), mock(BudgetSummaryEngine.class), mock(DataVersionService.class),
+                mock(HabitScoreService.class));
+    }
+
+    @Test
+    void rowsHoldBudgetAndSpendingPerCategoryPlusOneUncategorizedRow() {
+        List<List<Long>> rows = budgetRepository.reportByCategory(1L, LocalDate.of(2026, 3, 1), 202603).stream()
+                .map(row -> List.of(row.getCategoryId().longValue(), toLong(row.getBudget()), toLong(row.getSpent())))
+                .toList();
+
+        assertThat(rows).containsExactlyInAnyOrder(
+                List.of(1L, 100_000L, 120_000L),
+                List.of(2L, 50_000L, 20_000L),
+                List.of(3L, 30_000L, 0L),
+                List.of(4L, 0L, 40_000L),
+                List.of(5L, 0L, 0L),
+                List.of(0L, 0L, 20_000L));
+    }
+
+    @Test
+    void reportMarksOverBudgetItemsAndSharesOfTotalSpending() {
+        CategoryBudgetReportDto report = budgetService.getCategoryReport(User.builder().id(1L).build(), MONTH);
+
+        assertThat(report.month()).isEqualTo("2026-03");
+        assertThat(report.totalBudget()).isEqualTo(180_000);
+        assertThat(report.totalSpent()).isEqualTo(200_000);
+        // 예산도 지출도 없는 카테고리(건강/의료)는 빠짐
+        assertThat(report.categories()).containsExactlyInAnyOrder(
+                new CategoryBudgetReportDto.Item(CategoryType.FOOD_DINING, "식료품/외식", 100_000, 120_000, -20_000, 120.0, 60.0),
+                new CategoryBudgetReportDto.Item(CategoryType.HOUSING_UTILITIES, "주거/공과금", 50_000, 20_000, 30_000, 40.0, 10.0),
+                new CategoryBudgetReportDto.Item(CategoryType.TRANSPORTATION, "교통/차량", 30_000, 0, 30_000, 0.0, 0.0),
+                new CategoryBudgetReportDto.Item(CategoryType.SHOPPING_FASHION, "쇼핑/패션", 0, 40_000, -40_000, null, 20.0),
+                new CategoryBudgetReportDto.Item(null, "미분류", 0, 20_000, -20_000, null, 10.0));
+    }
+
+    private long toLong(Number value) {
+        return value != null ? value.longValue() : 0;
+    }
+}
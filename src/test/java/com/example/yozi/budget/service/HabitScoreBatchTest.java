@@ -0,0 +1,130 @@
+package com.example.yozi.budget.service;
+
+import com.example.yozi.config.ReadYourWritesTracker;
+import com.example.yozi.user.service.DataVersionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 파티션 분할, habit_score_progress 에서 이어서 처리, 제한 시간 초과, 다른 인스턴스가 임대한 파티션 건너뛰기.
+ * 배치가 파티션마다 별도 스레드와 트랜잭션을 쓰므로 테스트 트랜잭션 밖에서 실행하고 매번 지웁니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:yozi-habit-batch;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=none"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({HabitScoreService.class, DataVersionService.class, ReadYourWritesTracker.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class HabitScoreBatchTest {
+
+    private static final int USERS = 10;
+    private static final LocalDate RUN_DATE = LocalDate.of(2026, 3, 15);
+
+    @Autowired
+    private HabitScoreService habitScoreService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void seedUsers() {
+        List<Object[]> users = new ArrayList<>();
+        for (long id = 1; id <= USERS; id++) {
+            users.add(new Object[]{id, "habit-" + id});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (id, social_id, social_type, nickname, created_at, updated_at) " +
+                "VALUES (?, ?, 'KAKAO', '점수', NOW(), NOW())", users);
+    }
+
+    @AfterEach
+    void clean() {
+        jdbcTemplate.update("DELETE FROM habit_score_progress");
+        jdbcTemplate.update("DELETE FROM habit_score");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    // 구간이 겹치거나 빈틈 없이 전체 사용자를 덮고, 끝난 파티션은 임대를 놓음
+    @Test
+    void partitionsCoverEveryUserOnce() {
+        assertThat(batch(3, Duration.ofMinutes(1)).run(RUN_DATE)).isEqualTo(USERS);
+
+        assertThat(jdbcTemplate.queryForList("SELECT range_start, range_end FROM habit_score_progress ORDER BY partition_no")
+                .stream().map(row -> List.copyOf(row.values())).toList())
+                .containsExactly(List.of(1L, 4L), List.of(5L, 8L), List.of(9L, 10L));
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM habit_score_progress " +
+                "WHERE done = TRUE AND claimed_by IS NULL", Integer.class)).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("SELECT SUM(scored_users) FROM habit_score_progress", Long.class))
+                .isEqualTo(USERS);
+        assertThat(scoredUsers()).hasSize(USERS);
+        // 완료된 실행일은 다시 돌려도 처리할 것이 없음
+        assertThat(batch(3, Duration.ofMinutes(1)).run(RUN_DATE)).isZero();
+    }
+
+    // 제한 시간을 넘기면 진행 상황만 남기고 멈추며, 다음 실행은 last_user_id 다음부터 이어서 처리
+    @Test
+    void windowCutOffLeavesProgressAndNextRunResumes() {
+        assertThat(batch(1, Duration.ZERO).run(RUN_DATE)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM habit_score_progress " +
+                "WHERE done = FALSE AND claimed_by IS NULL", Integer.class)).isEqualTo(1);
+        assertThat(scoredUsers()).isEmpty();
+
+        // 앞선 실행이 사용자 6 까지 저장하고 중단된 상황
+        jdbcTemplate.update("UPDATE habit_score_progress SET last_user_id = 6, scored_users = 6");
+
+        assertThat(batch(1, Duration.ofMinutes(1)).run(RUN_DATE)).isEqualTo(4);
+        assertThat(scoredUsers()).containsExactly(7L, 8L, 9L, 10L);
+        assertThat(jdbcTemplate.queryForObject("SELECT scored_users FROM habit_score_progress", Long.class))
+                .isEqualTo(USERS);
+    }
+
+    // 다른 인스턴스가 임대 중인 파티션은 건너뛰고, 임대가 만료되면 이어받음
+    @Test
+    void skipsPartitionLeasedByAnotherInstanceUntilTheLeaseExpires() {
+        batch(2, Duration.ZERO).run(RUN_DATE);
+        jdbcTemplate.update("UPDATE habit_score_progress SET claimed_by = 'other-instance', " +
+                "claimed_until = DATEADD('HOUR', 1, CURRENT_TIMESTAMP) WHERE partition_no = 1");
+
+        assertThat(batch(2, Duration.ofMinutes(1)).run(RUN_DATE)).isEqualTo(5);
+        assertThat(scoredUsers()).containsExactly(1L, 2L, 3L, 4L, 5L);
+
+        jdbcTemplate.update("UPDATE habit_score_progress SET claimed_until = DATEADD('HOUR', -1, CURRENT_TIMESTAMP) " +
+                "WHERE partition_no = 1");
+        assertThat(batch(2, Duration.ofMinutes(1)).run(RUN_DATE)).isEqualTo(5);
+        assertThat(scoredUsers()).hasSize(USERS);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM habit_score_progress WHERE done = FALSE",
+                Integer.class)).isZero();
+    }
+
+    // 인스턴스마다 임대 식별자가 다르므로 매번 새로 만듦
+    private HabitScoreBatch batch(int partitions, Duration window) {
+        return new HabitScoreBatch(habitScoreService, jdbcTemplate, transactionManager, true, partitions, 2, window,
+                ZoneId.of("Asia/Seoul"), Duration.ofMinutes(5));
+    }
+
+    private List<Long> scoredUsers() {
+        return jdbcTemplate.queryForList("SELECT user_id FROM habit_score WHERE score_month = 202603 AND as_of = ? " +
+                "ORDER BY user_id", Long.class, Date.valueOf(RUN_DATE.minusDays(1)));
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.yozi.budget.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HabitScoreCalculatorTest {
+
+    @Test
+    void steadySpendingWithinBudgetGetsFullScore() {
+        long[] daily = new long[30];
+        Arrays.fill(daily, 10_000);
+
+        HabitScoreCalculator.Result result = HabitScoreCalculator.calculate(new HabitScoreCalculator.Input(
+                400_000, daily, 30, Map.of(1, 120_000L, 2, 100_000L, 3, 80_000L)));
+
+        assertThat(result.score()).isEqualTo(100);
+        assertThat(result.recordedDays()).isEqualTo(30);
+        assertThat(result.balanceScore()).isEqualTo(HabitScoreCalculator.BALANCE_WEIGHT); // 가장 큰 카테고리 40%
+    }
+
+    @Test
+    void overspendingConcentratedInOneDayLosesPoints() {
+        long[] daily = new long[30];
+        daily[14] = 600_000;
+
+        HabitScoreCalculator.Result result = HabitScoreCalculator.calculate(new HabitScoreCalculator.Input(
+                400_000, daily, 1, Map.of(5, 600_000L)));
+
+        assertThat(result.budgetScore()).isZero();     // 예산의 150%
+        assertThat(result.balanceScore()).isZero();    // 한 카테고리 100%
+        assertThat(result.stabilityScore()).isZero();  // 하루에 몰림
+        assertThat(result.recordScore()).isEqualTo(1); // 18일 목표 중 1일
+    }
+
+    @Test
+    void monthWithoutDataGetsNeutralScore() {
+        HabitScoreCalculator.Result result = HabitScoreCalculator.calculate(new HabitScoreCalculator.Input(
+                0, new long[10], 0, Map.of()));
+
+        assertThat(result.score()).isEqualTo(HabitScoreCalculator.BUDGET_WEIGHT / 2
+                + HabitScoreCalculator.BALANCE_WEIGHT / 2 + HabitScoreCalculator.STABILITY_WEIGHT / 2);
+    }
+}
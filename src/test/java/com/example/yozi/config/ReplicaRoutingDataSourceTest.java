@@ -0,0 +1,136 @@
+package com.example.yozi.config;
+
+import com.example.yozi.jwt.UserPrincipal;
+import com.example.yozi.user.repository.UserRepository;
+import com.example.yozi.user.service.DataVersionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * primary 와 레플리카 2개를 각각 H2 메모리 DB 로 띄우고, 어느 DB 에서 읽었는지 db_role 테이블로 확인합니다.
+ * data_version 테이블은 복제 지연을 흉내 냅니다 (쓰기는 primary 에만 반영).
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReadYourWritesTracker tracker;
+    private DataSourceTransactionManager transactionManager;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("primary");
+        DataSource replicaA = database("replica-a");
+        DataSource replicaB = database("replica-b");
+
+        meterRegistry = new SimpleMeterRegistry();
+        tracker = new ReadYourWritesTracker(Duration.ofSeconds(5));
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(new ReplicaRoutingDataSource(primary, List.of(replicaA, replicaB), tracker, meterRegistry));
+
+        transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void writeTransactionsUsePrimary() {
+        assertThat(roleIn(readWrite)).isEqualTo("primary");
+    }
+
+    @Test
+    void readOnlyTransactionsAlternateBetweenReplicas() {
+        List<String> roles = List.of(
+                roleIn(readOnly),
+                roleIn(readOnly),
+                roleIn(readOnly));
+
+        assertThat(roles).containsExactly("replica-a", "replica-b", "replica-a");
+        assertThat(meterRegistry.get("yozi.datasource.route").tag("target", "replica-0").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("yozi.datasource.route").tag("target", "replica-1").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void userWhoJustWroteReadsFromPrimary() {
+        signIn(1L);
+        tracker.recordWrite(1L);
+
+        assertThat(roleIn(readOnly)).isEqualTo("primary");
+        assertThat(meterRegistry.get("yozi.datasource.route").tag("reason", "read-your-writes").counter().count()).isEqualTo(1);
+
+        signIn(2L);
+        assertThat(roleIn(readOnly)).startsWith("replica");
+    }
+
+    @Test
+    void laggingReplicaBodyIsTaggedWithTheVersionItWasReadAt() {
+        // 쓰기는 primary 에만 반영되므로 레플리카는 아직 버전 1 (복제 지연)
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE data_version SET version = 2"));
+
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findDataVersionById(1L)).thenAnswer(invocation ->
+                Optional.of(jdbcTemplate.queryForObject("SELECT version FROM data_version", Long.class)));
+        DataVersionService dataVersionService =
+                new DataVersionService(userRepository, tracker, transactionManager, true, Duration.ZERO, 100);
+
+        long current = dataVersionService.current(1L);
+        DataVersionService.Versioned<String> read = dataVersionService.read(1L, current, this::role);
+
+        assertThat(current).isEqualTo(2);
+        assertThat(read.value()).startsWith("replica");
+        assertThat(read.version()).isEqualTo(1);
+    }
+
+    // execute 의 제네릭 반환형을 String 으로 고정 (assertThat 오버로드 모호성 방지)
+    private String roleIn(TransactionTemplate template) {
+        return template.execute(status -> role());
+    }
+
+    private String role() {
+        return jdbcTemplate.queryForObject("SELECT name FROM db_role", String.class);
+    }
+
+    private void signIn(Long userId) {
+        UserPrincipal principal = new UserPrincipal(userId, "social-" + userId, "사용자", List.of());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:routing-" + name + "-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE db_role (name VARCHAR(16))");
+        jdbc.update("INSERT INTO db_role (name) VALUES (?)", name);
+        jdbc.execute("CREATE TABLE data_version (version BIGINT)");
+        jdbc.update("INSERT INTO data_version (version) VALUES (1)");
+        return dataSource;
+    }
+}
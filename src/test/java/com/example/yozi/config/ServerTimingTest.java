@@ -0,0 +1,135 @@
+package com.example.yozi.config;
+
+import com.example.yozi.user.entity.User;
+import com.example.yozi.user.entity.enums.SocialType;
+import com.example.yozi.user.service.JwtService;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * yozi.server-timing.enabled 에 따라 필터/애스펙트/컨버터가 등록되는지, 켜면 헤더와 느린 요청 로그가 나오는지 확인합니다.
+ * 설정이 다른 두 컨텍스트를 띄우므로 주입은 각 @Nested 클래스에서 받습니다.
+ */
+class ServerTimingTest {
+
+    private static final long USER_ID = 1L;
+
+    @Nested
+    @SpringBootTest
+    @AutoConfigureMockMvc
+    @TestPropertySource(locations = "classpath:sql-count-test.properties",
+            properties = "yozi.server-timing.enabled=false")
+    class Disabled {
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @Autowired
+        private ApplicationContext context;
+
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
+        @Autowired
+        private JwtService jwtService;
+
+        @Test
+        void nothingIsRegisteredAndNoHeaderIsSent() throws Exception {
+            assertThat(filterRegistered(context)).isFalse();
+            assertThat(context.getBeansOfType(ServerTimingAspect.class)).isEmpty();
+            assertThat(converterInstalled(context)).isFalse();
+
+            mockMvc.perform(summary(jdbcTemplate, jwtService))
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist(ServerTimingFilter.HEADER));
+        }
+    }
+
+    // 모든 요청이 느린 요청으로 샘플링되도록 기준 0ms, 비율 1
+    @Nested
+    @SpringBootTest
+    @AutoConfigureMockMvc
+    @ExtendWith(OutputCaptureExtension.class)
+    @TestPropertySource(locations = "classpath:sql-count-test.properties", properties = {
+            "yozi.server-timing.enabled=true",
+            "yozi.server-timing.slow-threshold=0ms",
+            "yozi.server-timing.slow-sample-rate=1.0"
+    })
+    class Enabled {
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @Autowired
+        private ApplicationContext context;
+
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
+        @Autowired
+        private JwtService jwtService;
+
+        @Test
+        void headerListsEachPhaseAndSlowRequestIsLogged(CapturedOutput output) throws Exception {
+            assertThat(filterRegistered(context)).isTrue();
+            assertThat(context.getBeansOfType(ServerTimingAspect.class)).hasSize(1);
+            assertThat(converterInstalled(context)).isTrue();
+
+            mockMvc.perform(summary(jdbcTemplate, jwtService))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(ServerTimingFilter.HEADER, allOf(
+                            containsString("auth;dur="), containsString("db;dur="), containsString("service;dur="),
+                            containsString("serialization;dur="), containsString("total;dur="))));
+
+            assertThat(output).contains("느린 요청 GET /api/budgets/summary");
+        }
+    }
+
+    private static MockHttpServletRequestBuilder summary(JdbcTemplate jdbcTemplate, JwtService jwtService) {
+        if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE id = ?", Long.class, USER_ID) == 0) {
+            jdbcTemplate.update("INSERT INTO users (id, social_id, social_type, nickname, created_at, updated_at) " +
+                    "VALUES (?, '1001', 'KAKAO', '타이밍', NOW(), NOW())", USER_ID);
+        }
+        String token = jwtService.generateToken(User.builder()
+                .id(USER_ID)
+                .socialId("1001")
+                .socialType(SocialType.KAKAO)
+                .nickname("타이밍")
+                .build());
+        return get("/api/budgets/summary").param("date", LocalDate.now().toString())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+    }
+
+    private static boolean filterRegistered(ApplicationContext context) {
+        return context.getBeansOfType(FilterRegistrationBean.class).values().stream()
+                .anyMatch(registration -> registration.getFilter() instanceof ServerTimingFilter);
+    }
+
+    private static boolean converterInstalled(ApplicationContext context) {
+        return context.getBean(RequestMappingHandlerAdapter.class).getMessageConverters().stream()
+                .anyMatch(ServerTimingJsonConverter.class::isInstance);
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.yozi.support;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.context.annotation.Import;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 스프링 테스트(@SpringBootTest, @DataJpaTest 등)에서 SQL 문 수를 세어 상한을 검사할 수 있게 합니다.
+ * 테스트 메서드 파라미터로 {@link SqlCounter} 를 받아 블록이나 MockMvc 요청 단위로 셉니다.
+ * N+1 처럼 데이터 건수에 비례해 SQL 이 늘어나는 회귀를 잡기 위한 용도입니다.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@ExtendWith(SqlCountExtension.class)
+@Import(SqlCountConfig.class)
+public @interface CountSql {
+}
@@ -0,0 +1,35 @@
+package com.example.yozi.support;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+/**
+ * 애플리케이션 DataSource(빈 이름 dataSource) 를 datasource-proxy 로 감싸 {@link SqlStatementListener} 에 연결합니다.
+ * JPA, JdbcTemplate, Flyway 모두 같은 빈을 쓰므로 한 곳만 감싸면 됩니다 (레플리카 라우팅 사용 시에도 dataSource 가 최상위).
+ */
+@TestConfiguration(proxyBeanMethods = false)
+class SqlCountConfig {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    @Bean
+    static BeanPostProcessor sqlCountDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || !DATA_SOURCE_BEAN.equals(beanName)) {
+                    return bean;
+                }
+                SqlStatementListener.INSTANCE.attach();
+                return ProxyDataSourceBuilder.create(dataSource)
+                        .name("sql-count")
+                        .listener(SqlStatementListener.INSTANCE)
+                        .build();
+            }
+        };
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.yozi.support;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+
+/**
+ * 테스트 메서드에 {@link SqlCounter} 를 주입하고, 테스트가 끝나면 남은 기록을 버립니다 (count 도중 실패한 경우 대비).
+ */
+public class SqlCountExtension implements ParameterResolver, AfterEachCallback {
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return parameterContext.getParameter().getType() == SqlCounter.class;
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return new SqlCounter(SqlStatementListener.INSTANCE);
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        SqlStatementListener.INSTANCE.stop();
+    }
+}
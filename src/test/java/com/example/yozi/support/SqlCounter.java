@@ -0,0 +1,59 @@
+package com.example.yozi.support;
+
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+
+/**
+ * 블록이나 MockMvc 요청 하나에서 실행된 SQL 을 셉니다. {@link CountSql} 을 붙인 테스트의 메서드 파라미터로 받습니다.
+ * <pre>
+ * sqlCounter.perform(mockMvc, get("/api/transactions").param("limit", "200"), status().isOk())
+ *         .assertSelectsAtMost(2);
+ * </pre>
+ */
+public final class SqlCounter {
+
+    @FunctionalInterface
+    public interface Block {
+        void run() throws Exception;
+    }
+
+    private final SqlStatementListener listener;
+
+    SqlCounter(SqlStatementListener listener) {
+        this.listener = listener;
+    }
+
+    public SqlStatements count(Block block) throws Exception {
+        if (!listener.isAttached()) {
+            throw new IllegalStateException("DataSource 가 프록시로 감싸지지 않았습니다. 테스트 클래스에 @CountSql 이 있는지 확인하세요.");
+        }
+        SqlStatements statements;
+        listener.start();
+        try {
+            block.run();
+        } finally {
+            // block 이 실패해도 기록은 멈춤 (실패 원인은 block 의 예외로 전달)
+            statements = listener.stop();
+        }
+        return statements;
+    }
+
+    /**
+     * 요청을 보내고 expectations 를 확인합니다. 비동기 응답(StreamingResponseBody 등)은 끝날 때까지 기다려 함께 셉니다.
+     */
+    public SqlStatements perform(MockMvc mockMvc, RequestBuilder request, ResultMatcher... expectations) throws Exception {
+        return count(() -> {
+            ResultActions actions = mockMvc.perform(request);
+            MvcResult result = actions.andReturn();
+            if (result.getRequest().isAsyncStarted()) {
+                actions = mockMvc.perform(asyncDispatch(result));
+            }
+            actions.andExpectAll(expectations);
+        });
+    }
+}
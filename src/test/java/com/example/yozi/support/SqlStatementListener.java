@@ -0,0 +1,76 @@
+package com.example.yozi.support;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 프록시 DataSource 로 실행된 SQL 을 기록합니다. {@link #start()} ~ {@link #stop()} 사이에 실행된 것만 남깁니다.
+ * 대시보드처럼 요청을 다른 스레드에서 나눠 실행하는 경우도 세야 하므로 스레드별이 아니라 하나만 둡니다 (테스트는 순차 실행 전제).
+ * 배치(executeBatch) 는 파라미터 건수와 상관없이 1문으로 셉니다.
+ */
+class SqlStatementListener implements QueryExecutionListener {
+
+    static final SqlStatementListener INSTANCE = new SqlStatementListener();
+
+    private final List<SqlStatements.Statement> statements = new ArrayList<>();
+    private volatile boolean attached;
+    private boolean recording;
+
+    private SqlStatementListener() {
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        synchronized (this) {
+            if (!recording) {
+                return;
+            }
+            for (QueryInfo queryInfo : queryInfoList) {
+                statements.add(new SqlStatements.Statement(QueryUtils.getQueryType(queryInfo.getQuery()),
+                        queryInfo.getQuery(), execInfo.isBatch() ? execInfo.getBatchSize() : 0, parameters(queryInfo)));
+            }
+        }
+    }
+
+    // setXxx(index, value) 호출을 자리표시자 순서로. setNull 은 두 번째 인자가 SQL 타입이므로 null
+    private static List<Object> parameters(QueryInfo queryInfo) {
+        if (queryInfo.getParametersList().isEmpty()) {
+            return List.of();
+        }
+        return queryInfo.getParametersList().get(0).stream()
+                .sorted(Comparator.comparingInt(operation -> (Integer) operation.getArgs()[0]))
+                .map(operation -> "setNull".equals(operation.getMethod().getName()) ? null : operation.getArgs()[1])
+                .toList();
+    }
+
+    // SqlCountConfig 가 DataSource 를 감쌀 때 표시 (감싸지 않은 채로 세면 항상 0 이 되므로)
+    void attach() {
+        attached = true;
+    }
+
+    boolean isAttached() {
+        return attached;
+    }
+
+    synchronized void start() {
+        statements.clear();
+        recording = true;
+    }
+
+    synchronized SqlStatements stop() {
+        recording = false;
+        SqlStatements result = new SqlStatements(List.copyOf(statements));
+        statements.clear();
+        return result;
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.yozi.support;
+
+import net.ttddyy.dsproxy.QueryType;
+
+import java.util.List;
+
+/**
+ * 블록 또는 요청 하나에서 실행된 SQL 목록과 유형별 개수.
+ * assert*AtMost 는 상한을 넘으면 실행 순서대로 전체 SQL 을 붙여 실패합니다 (해당 유형은 * 표시).
+ */
+public final class SqlStatements {
+
+    /**
+     * @param batchSize  배치로 실행됐으면 파라미터 건수, 아니면 0
+     * @param parameters 바인딩된 값 (자리표시자 순서, 배치면 첫 건). 실제 실행된 SQL 을 그대로 EXPLAIN 할 때 사용
+     */
+    public record Statement(QueryType type, String sql, int batchSize, List<Object> parameters) {
+    }
+
+    private final List<Statement> statements;
+
+    SqlStatements(List<Statement> statements) {
+        this.statements = statements;
+    }
+
+    public List<Statement> statements() {
+        return statements;
+    }
+
+    public int selects() {
+        return count(QueryType.SELECT);
+    }
+
+    public int inserts() {
+        return count(QueryType.INSERT);
+    }
+
+    public int updates() {
+        return count(QueryType.UPDATE);
+    }
+
+    public int deletes() {
+        return count(QueryType.DELETE);
+    }
+
+    public int total() {
+        return statements.size();
+    }
+
+    public SqlStatements assertSelectsAtMost(int max) {
+        return assertAtMost(QueryType.SELECT, max);
+    }
+
+    public SqlStatements assertInsertsAtMost(int max) {
+        return assertAtMost(QueryType.INSERT, max);
+    }
+
+    public SqlStatements assertUpdatesAtMost(int max) {
+        return assertAtMost(QueryType.UPDATE, max);
+    }
+
+    public SqlStatements assertDeletesAtMost(int max) {
+        return assertAtMost(QueryType.DELETE, max);
+    }
+
+    public SqlStatements assertTotalAtMost(int max) {
+        if (total() > max) {
+            throw new AssertionError("SQL " + total() + "문 실행 (상한 " + max + ")" + describe(null));
+        }
+        return this;
+    }
+
+    // 쓰기 없이 조회만 하는 요청
+    public SqlStatements assertReadOnly() {
+        return assertInsertsAtMost(0).assertUpdatesAtMost(0).assertDeletesAtMost(0);
+    }
+
+    private SqlStatements assertAtMost(QueryType type, int max) {
+        int actual = count(type);
+        if (actual > max) {
+            throw new AssertionError(type + " " + actual + "문 실행 (상한 " + max + ")" + describe(type));
+        }
+        return this;
+    }
+
+    private int count(QueryType type) {
+        int count = 0;
+        for (Statement statement : statements) {
+            if (statement.type() == type) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private String describe(QueryType highlight) {
+        StringBuilder message = new StringBuilder();
+        for (int i = 0; i < statements.size(); i++) {
+            Statement statement = statements.get(i);
+            message.append('\n')
+                    .append(statement.type() == highlight ? "* " : "  ")
+                    .append(i + 1).append(". ")
+                    .append(statement.sql());
+            if (statement.batchSize() > 0) {
+                message.append(" (배치 ").append(statement.batchSize()).append("건)");
+            }
+        }
+        return message.toString();
+    }
+
+    @Override
+    public String toString() {
+        return "select=" + selects() + ", insert=" + inserts() + ", update=" + updates() + ", delete=" + deletes()
+                + describe(null);
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.yozi.transaction.service;
+
+import com.example.yozi.config.ReadYourWritesTracker;
+import com.example.yozi.transaction.entity.enums.TransactionType;
+import com.example.yozi.user.service.DataVersionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 거래 쓰기에 따른 버킷 증감(add / move / remove / addAll) 과 transactions 와의 대조(verify), 재계산(rebuild).
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:yozi-rollup;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=none"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({MonthlyRollupService.class, DataVersionService.class, ReadYourWritesTracker.class})
+class MonthlyRollupServiceTest {
+
+    private static final long USER_ID = 1L;
+
+    @Autowired
+    private MonthlyRollupService monthlyRollupService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seedUser() {
+        jdbcTemplate.update("INSERT INTO users (id, social_id, social_type, nickname, created_at, updated_at) " +
+                "VALUES (?, 'rollup-user', 'KAKAO', '집계', NOW(), NOW())", USER_ID);
+    }
+
+    @Test
+    void addAndRemoveKeepBucketTotals() {
+        monthlyRollupService.add(snapshot(202603, TransactionType.EXPENSE, 1, 4_000));
+        monthlyRollupService.add(snapshot(202603, TransactionType.EXPENSE, 1, 6_000));
+        monthlyRollupService.add(snapshot(202603, TransactionType.INCOME, 8, 50_000));
+        monthlyRollupService.remove(snapshot(202603, TransactionType.EXPENSE, 1, 4_000));
+
+        assertThat(bucket(202603, TransactionType.EXPENSE, 1)).containsExactly(6_000L, 1L);
+        assertThat(bucket(202603, TransactionType.INCOME, 8)).containsExactly(50_000L, 1L);
+    }
+
+    // 금액만 바뀌면 같은 버킷에서 차액만, 월/카테고리가 바뀌면 이전 버킷에서 빼고 새 버킷에 더함
+    @Test
+    void moveAdjustsSameBucketOrTransfersBetweenBuckets() {
+        monthlyRollupService.add(snapshot(202603, TransactionType.EXPENSE, 1, 4_000));
+
+        monthlyRollupService.move(snapshot(202603, TransactionType.EXPENSE, 1, 4_000),
+                snapshot(202603, TransactionType.EXPENSE, 1, 5_500));
+        assertThat(bucket(202603, TransactionType.EXPENSE, 1)).containsExactly(5_500L, 1L);
+
+        monthlyRollupService.move(snapshot(202603, TransactionType.EXPENSE, 1, 5_500),
+                snapshot(202604, TransactionType.EXPENSE, 3, 5_500));
+        assertThat(bucket(202603, TransactionType.EXPENSE, 1)).containsExactly(0L, 0L);
+        assertThat(bucket(202604, TransactionType.EXPENSE, 3)).containsExactly(5_500L, 1L);
+
+        // 집계 대상이 아니게 되면 (유형 삭제 등) 빼기만
+        monthlyRollupService.move(snapshot(202604, TransactionType.EXPENSE, 3, 5_500), null);
+        assertThat(bucket(202604, TransactionType.EXPENSE, 3)).containsExactly(0L, 0L);
+    }
+
+    @Test
+    void addAllMergesSnapshotsPerBucket() {
+        monthlyRollupService.add(snapshot(202603, TransactionType.EXPENSE, 1, 1_000));
+
+        monthlyRollupService.addAll(List.of(
+                snapshot(202603, TransactionType.EXPENSE, 1, 2_000),
+                snapshot(202603, TransactionType.EXPENSE, 1, 3_000),
+                snapshot(202603, TransactionType.EXPENSE, 2, 700)));
+
+        assertThat(bucket(202603, TransactionType.EXPENSE, 1)).containsExactly(6_000L, 3L);
+        assertThat(bucket(202603, TransactionType.EXPENSE, 2)).containsExactly(700L, 1L);
+    }
+
+    // 누락, 금액 불일치, 거래 없이 남은 버킷을 각각 하나씩 셈. 0원/0건으로 비워진 버킷은 정상
+    @Test
+    void verifyCountsEachKindOfMismatch() {
+        insertTransaction(LocalDate.of(2026, 3, 2), TransactionType.EXPENSE, 1, 4_000);
+        insertTransaction(LocalDate.of(2026, 3, 9), TransactionType.EXPENSE, 1, 1_000);
+        insertTransaction(LocalDate.of(2026, 4, 1), TransactionType.INCOME, 8, 50_000);
+        insertTransaction(LocalDate.of(2026, 4, 5), TransactionType.EXPENSE, null, 300);
+        // 집계 없이 넣은 거래의 버킷 3개가 누락
+        assertThat(monthlyRollupService.verify()).isEqualTo(3);
+
+        assertThat(monthlyRollupService.rebuild()).isEqualTo(3);
+        assertThat(monthlyRollupService.verify()).isZero();
+        assertThat(bucket(202604, TransactionType.EXPENSE, 0)).containsExactly(300L, 1L);
+
+        monthlyRollupService.add(snapshot(202605, TransactionType.EXPENSE, 2, 900));
+        monthlyRollupService.remove(snapshot(202605, TransactionType.EXPENSE, 2, 900));
+        assertThat(monthlyRollupService.verify()).isZero();
+
+        jdbcTemplate.update("UPDATE monthly_rollup SET amount = amount + 1 WHERE rollup_month = 202603");
+        jdbcTemplate.update("DELETE FROM monthly_rollup WHERE rollup_month = 202604 AND type = 'INCOME'");
+        monthlyRollupService.add(snapshot(202606, TransactionType.EXPENSE, 2, 800));
+        assertThat(monthlyRollupService.verify()).isEqualTo(3);
+    }
+
+    // 재계산은 기존 버킷을 버리고 거래에서 다시 만들며, 사용자 데이터 버전을 올림
+    @Test
+    void rebuildReplacesDriftedBucketsAndBumpsDataVersion() {
+        insertTransaction(LocalDate.of(2026, 3, 2), TransactionType.EXPENSE, 1, 4_000);
+        monthlyRollupService.add(snapshot(202603, TransactionType.EXPENSE, 1, 9_999));
+        monthlyRollupService.add(snapshot(202512, TransactionType.INCOME, 8, 1_000));
+        long versionBefore = dataVersion();
+
+        monthlyRollupService.rebuild();
+
+        assertThat(bucket(202603, TransactionType.EXPENSE, 1)).containsExactly(4_000L, 1L);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM monthly_rollup", Long.class)).isEqualTo(1);
+        assertThat(dataVersion()).isEqualTo(versionBefore + 1);
+    }
+
+    private MonthlyRollupService.Snapshot snapshot(int month, TransactionType type, int categoryId, long amount) {
+        return new MonthlyRollupService.Snapshot(USER_ID, month, type, categoryId, amount);
+    }
+
+    private void insertTransaction(LocalDate date, TransactionType type, Integer categoryId, int amount) {
+        jdbcTemplate.update("INSERT INTO transactions (user_id, type, category_id, amount, transaction_date) " +
+                "VALUES (?, ?, ?, ?, ?)", USER_ID, type.name(), categoryId, amount, Date.valueOf(date));
+    }
+
+    private List<Long> bucket(int month, TransactionType type, int categoryId) {
+        return jdbcTemplate.queryForObject("SELECT amount, tx_count FROM monthly_rollup " +
+                        "WHERE user_id = ? AND rollup_month = ? AND type = ? AND category_id = ?",
+                (rs, rowNum) -> List.of(rs.getLong(1), rs.getLong(2)), USER_ID, month, type.name(), categoryId);
+    }
+
+    private long dataVersion() {
+        return jdbcTemplate.queryForObject("SELECT data_version FROM users WHERE id = ?", Long.class, USER_ID);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.yozi.transaction.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 따옴표 필드, 필드 안 줄바꿈, BOM, CRLF 와 행 시작 줄 번호.
+ */
+class StatementCsvReaderTest {
+
+    @Test
+    void quotedFieldsKeepCommasQuotesAndNewlines() throws IOException {
+        List<List<String>> rows = readAll("date,vendor,memo\n"
+                + "2026-03-01,\"스타벅스, 강남점\",\"그가 \"\"한 잔\"\" 샀음\"\n"
+                + "2026-03-02,편의점,\"첫 줄\n둘째 줄\"\n");
+
+        assertThat(rows).containsExactly(
+                List.of("date", "vendor", "memo"),
+                List.of("2026-03-01", "스타벅스, 강남점", "그가 \"한 잔\" 샀음"),
+                List.of("2026-03-02", "편의점", "첫 줄\n둘째 줄"));
+    }
+
+    @Test
+    void skipsBomAndCarriageReturns() throws IOException {
+        List<List<String>> rows = readAll("﻿date,amount\r\n2026-03-01,\"1,000\"\r\n2026-03-02,500");
+
+        assertThat(rows).containsExactly(
+                List.of("date", "amount"),
+                List.of("2026-03-01", "1,000"),
+                List.of("2026-03-02", "500"));
+    }
+
+    @Test
+    void keepsEmptyFields() throws IOException {
+        assertThat(readAll(",a,,\n")).containsExactly(List.of("", "a", "", ""));
+    }
+
+    // 오류 행 번호는 파일의 줄 번호 기준이므로 필드 안 줄바꿈 뒤의 행은 그만큼 밀림
+    @Test
+    void reportsLineWhereEachRowStarts() throws IOException {
+        try (StatementCsvReader reader = new StatementCsvReader(new StringReader(
+                "h\n\"a\nb\nc\"\nd\n"))) {
+            reader.readRow();
+            assertThat(reader.getRowLine()).isEqualTo(1);
+            reader.readRow();
+            assertThat(reader.getRowLine()).isEqualTo(2);
+            assertThat(reader.readRow()).containsExactly("d");
+            assertThat(reader.getRowLine()).isEqualTo(5);
+            assertThat(reader.readRow()).isNull();
+        }
+    }
+
+    private List<List<String>> readAll(String csv) throws IOException {
+        List<List<String>> rows = new ArrayList<>();
+        try (StatementCsvReader reader = new StatementCsvReader(new StringReader(csv))) {
+            List<String> row;
+            while ((row = reader.readRow()) != null) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+}
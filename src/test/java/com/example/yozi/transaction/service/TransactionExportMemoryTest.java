@@ -0,0 +1,122 @@
+package com.example.yozi.transaction.service;
+
+import com.example.yozi.category.service.CategoryRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대량 거래 내역을 작은 힙(-Xmx96m, build.gradle 의 memoryTest 태스크)에서 내보내도
+ * OutOfMemoryError 없이 모든 행이 기록되는지 확인합니다. 엔티티를 모두 메모리에 올리면 이 힙에 들어가지 않습니다.
+ */
+@Tag("memory")
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=none")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({TransactionExportService.class, CategoryRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TransactionExportMemoryTest {
+
+    private static final int ROWS = 500_000;
+    private static final long USER_ID = 1L;
+
+    @Autowired
+    private TransactionExportService transactionExportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 메모리 DB 는 데이터 자체가 힙을 차지하므로 파일 DB + 작은 페이지 캐시 사용
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) throws IOException {
+        Path dir = Files.createTempDirectory("yozi-export");
+        registry.add("spring.datasource.url",
+                () -> "jdbc:h2:file:" + dir.resolve("ledger") + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;CACHE_SIZE=4096");
+    }
+
+    @BeforeEach
+    void seedLedger() {
+        if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class) > 0) {
+            return;
+        }
+        jdbcTemplate.update("INSERT INTO users (id, social_id, social_type, nickname, created_at, updated_at) " +
+                "VALUES (?, 'export-user', 'KAKAO', '내보내기', NOW(), NOW())", USER_ID);
+
+        LocalDate start = LocalDate.of(2015, 1, 1);
+        List<Object[]> batch = new ArrayList<>(5_000);
+        for (int i = 0; i < ROWS; i++) {
+            batch.add(new Object[]{USER_ID, i % 7 == 0 ? "INCOME" : "EXPENSE", i % 8 + 1, i % 2 == 0 ? "CARD" : "CASH",
+                    "가맹점 " + (i % 500), 1_000 + i % 90_000, i % 3 == 0 ? "메모, \"따옴표\" 포함" : null,
+                    Date.valueOf(start.plusDays(i % 3_650))});
+            if (batch.size() == 5_000) {
+                insert(batch);
+                batch.clear();
+            }
+        }
+        insert(batch);
+    }
+
+    @Test
+    void exportsLargeLedgerWithFlatMemory() {
+        CountingOutputStream csv = new CountingOutputStream();
+        long csvRows = transactionExportService.export(USER_ID, null, null, TransactionExportService.Format.CSV, csv);
+
+        assertThat(csvRows).isEqualTo(ROWS);
+        assertThat(csv.lines).isEqualTo(ROWS + 1); // 헤더 포함
+
+        CountingOutputStream ndjson = new CountingOutputStream();
+        long ndjsonRows = transactionExportService.export(USER_ID, null, null, TransactionExportService.Format.NDJSON, ndjson);
+
+        assertThat(ndjsonRows).isEqualTo(ROWS);
+        assertThat(ndjson.lines).isEqualTo(ROWS);
+    }
+
+    private void insert(List<Object[]> batch) {
+        jdbcTemplate.batchUpdate("INSERT INTO transactions " +
+                "(user_id, type, category_id, payment_method, vendor, amount, memo, transaction_date) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", batch);
+    }
+
+    // 메모에는 줄바꿈이 없으므로 '\n' 개수가 곧 행 수
+    private static class CountingOutputStream extends OutputStream {
+        private long lines;
+
+        @Override
+        public void write(int b) {
+            if (b == '\n') {
+                lines++;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            for (int i = off; i < off + len; i++) {
+                if (b[i] == '\n') {
+                    lines++;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.yozi.transaction.service;
+
+import com.example.yozi.category.service.CategoryRegistry;
+import com.example.yozi.config.ReadYourWritesTracker;
+import com.example.yozi.transaction.dto.ImportResultDto;
+import com.example.yozi.user.entity.User;
+import com.example.yozi.user.service.DataVersionService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가져오기 결과의 정확성: 금액 부호 규칙, 한글 헤더/BOM/따옴표 필드, 컬럼 한도를 넘는 행의 행 단위 거절.
+ * 청크 저장이 실패하는 경우를 보려면 테스트 트랜잭션 밖에서 실행해야 하므로 NOT_SUPPORTED 로 두고 매번 지웁니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:yozi-import-check;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=none"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TransactionImportService.class, MonthlyRollupService.class, CategoryRegistry.class, DataVersionService.class,
+        ReadYourWritesTracker.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TransactionImportServiceTest {
+
+    @Autowired
+    private TransactionImportService transactionImportService;
+
+    @Autowired
+    private MonthlyRollupService monthlyRollupService;
+
+    @Autowired
+    private CategoryRegistry categoryRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("INSERT INTO users (id, social_id, social_type, nickname, created_at, updated_at) " +
+                "VALUES (1, 'import-check', 'KAKAO', '가져오기', NOW(), NOW())");
+        jdbcTemplate.update("INSERT INTO category (id, type, display_name) VALUES (1, 'FOOD_DINING', '식료품/외식'), " +
+                "(8, 'FINANCE_OTHERS', '금융/기타')");
+        categoryRegistry.refresh();
+        user = entityManager.getReference(User.class, 1L);
+    }
+
+    @AfterEach
+    void clean() {
+        jdbcTemplate.update("DELETE FROM monthly_rollup");
+        jdbcTemplate.update("DELETE FROM transactions");
+        jdbcTemplate.update("DELETE FROM users");
+        jdbcTemplate.update("DELETE FROM category");
+    }
+
+    // 은행 내역은 출금이 음수, 카드 명세서는 결제가 양수. 저장 금액은 항상 양수
+    @Test
+    void blankTypeFollowsRequestedSignConvention() throws IOException {
+        String csv = "date,type,amount\n2026-03-01,,-5000\n2026-03-02,,3000\n2026-03-03,지출,-700\n";
+
+        transactionImportService.importCsv(user, new StringReader(csv), TransactionImportService.AmountSign.NEGATIVE_EXPENSE);
+        assertThat(stored()).containsExactly("2026-03-01 EXPENSE 5000", "2026-03-02 INCOME 3000", "2026-03-03 EXPENSE 700");
+
+        clean();
+        seed();
+        transactionImportService.importCsv(user, new StringReader(csv), TransactionImportService.AmountSign.POSITIVE_EXPENSE);
+        assertThat(stored()).containsExactly("2026-03-01 INCOME 5000", "2026-03-02 EXPENSE 3000", "2026-03-03 EXPENSE 700");
+    }
+
+    @Test
+    void blankTypeWithoutSignConventionIsRowError() throws IOException {
+        ImportResultDto result = transactionImportService.importCsv(user,
+                new StringReader("date,type,amount\n2026-03-01,,-5000\n2026-03-02,수입,3000\n"), null);
+
+        assertThat(result.imported()).isEqualTo(1);
+        assertThat(result.errors()).extracting(ImportResultDto.RowError::line).containsExactly(2L);
+        assertThat(stored()).containsExactly("2026-03-02 INCOME 3000");
+    }
+
+    @Test
+    void koreanHeadersBomAndQuotedFields() throws IOException {
+        String csv = "﻿날짜,유형,카테고리,가맹점,금액,메모\n"
+                + "2026.03.01,지출,식료품/외식,\"스타벅스, 강남점\",\"4,500원\",\"첫 줄\n둘째 줄\"\n"
+                + "2026/03/02,지출,,편의점,abc,\n";
+
+        ImportResultDto result = transactionImportService.importCsv(user, new StringReader(csv), null);
+
+        assertThat(result.imported()).isEqualTo(1);
+        // 메모 안 줄바꿈 때문에 둘째 데이터 행은 파일의 4번째 줄에서 시작
+        assertThat(result.errors()).extracting(ImportResultDto.RowError::line).containsExactly(4L);
+        assertThat(jdbcTemplate.queryForList("SELECT vendor, amount, memo, category_id FROM transactions")
+                .stream().map(row -> List.copyOf(row.values())).toList())
+                .containsExactly(List.of("스타벅스, 강남점", 4_500, "첫 줄\n둘째 줄", 1));
+    }
+
+    // 한도를 넘는 행이 청크의 배치 INSERT 를 깨뜨리면 나머지 행까지 모두 "저장 실패" 가 되므로 행 단위로 걸러져야 함
+    @Test
+    void oversizedRowsAreRejectedAloneAndTheRestOfTheChunkIsSaved() throws IOException {
+        String csv = "date,type,vendor,amount,memo\n"
+                + "2026-03-01,EXPENSE,정상,1000,\n"
+                + "2026-03-02,EXPENSE," + "가".repeat(256) + ",2000,\n"
+                + "2026-03-03,EXPENSE,정상,3000," + "a".repeat(65_536) + "\n"
+                + "0999-12-31,EXPENSE,정상,4000,\n"
+                + "2026-03-05,EXPENSE," + "가".repeat(255) + ",5000,\n";
+
+        ImportResultDto result = transactionImportService.importCsv(user, new StringReader(csv), null);
+
+        assertThat(result.imported()).isEqualTo(2);
+        assertThat(result.errors()).extracting(ImportResultDto.RowError::line).containsExactly(3L, 4L, 5L);
+        assertThat(result.errors()).noneMatch(error -> error.message().startsWith("저장 실패"));
+        assertThat(stored()).containsExactly("2026-03-01 EXPENSE 1000", "2026-03-05 EXPENSE 5000");
+        assertThat(monthlyRollupService.verify()).isZero();
+    }
+
+    private List<String> stored() {
+        return jdbcTemplate.queryForList("SELECT CONCAT(transaction_date, ' ', type, ' ', amount) FROM transactions " +
+                "ORDER BY transaction_date, id", String.class);
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.yozi.transaction.service;
+
+import com.example.yozi.category.service.CategoryRegistry;
+import com.example.yozi.config.ReadYourWritesTracker;
+import com.example.yozi.transaction.dto.TransactionPageDto;
+import com.example.yozi.transaction.dto.TransactionResponseDto;
+import com.example.yozi.user.entity.User;
+import com.example.yozi.user.service.DataVersionService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * keyset 페이지를 끝까지 넘겼을 때 같은 날짜의 거래가 페이지 경계에 걸려도 중복이나 누락 없이
+ * (transactionDate DESC, id DESC) 순서로 모두 나오는지 확인합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:yozi-paging;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=none"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TransactionService.class, MonthlyRollupService.class, CategoryRegistry.class, DataVersionService.class,
+        ReadYourWritesTracker.class})
+class TransactionPagingTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 14);
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+
+    // 같은 날짜 7건 + 앞뒤 날짜 2건씩, 유형은 번갈아
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("INSERT INTO users (id, social_id, social_type, nickname, created_at, updated_at) " +
+                "VALUES (1, 'paging-user', 'KAKAO', '페이지', NOW(), NOW())");
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < 11; i++) {
+            LocalDate date = i < 2 ? DAY.plusDays(1) : i < 9 ? DAY : DAY.minusDays(1);
+            rows.add(new Object[]{i % 2 == 0 ? "EXPENSE" : "INCOME", 1, 1_000 + i, Date.valueOf(date)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO transactions (user_id, type, category_id, amount, transaction_date) " +
+                "VALUES (1, ?, ?, ?, ?)", rows);
+        user = entityManager.getReference(User.class, 1L);
+    }
+
+    @Test
+    void pagesCoverEveryTransactionOnceAcrossEqualDates() {
+        List<Long> paged = collect(cursor -> transactionService.getAllTransactionsByUser(user, cursor, 3));
+
+        assertThat(paged).containsExactlyElementsOf(expectedIds(null));
+    }
+
+    @Test
+    void typePagesCoverEveryTransactionOnceAcrossEqualDates() {
+        List<Long> paged = collect(cursor -> transactionService.getTransactionsByUserAndType(user, "expense", cursor, 2));
+
+        assertThat(paged).containsExactlyElementsOf(expectedIds("EXPENSE"));
+    }
+
+    private List<Long> collect(Function<String, TransactionPageDto> page) {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            TransactionPageDto current = page.apply(cursor);
+            current.items().stream().map(TransactionResponseDto::getId).forEach(ids::add);
+            cursor = current.next();
+        } while (cursor != null);
+        return ids;
+    }
+
+    private List<Long> expectedIds(String type) {
+        return jdbcTemplate.queryForList("SELECT id FROM transactions WHERE user_id = 1 AND (? IS NULL OR type = ?) " +
+                "ORDER BY transaction_date DESC, id DESC", Long.class, type, type);
+    }
+}
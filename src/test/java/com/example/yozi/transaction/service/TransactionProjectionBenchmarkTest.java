@@ -0,0 +1,132 @@
+package com.example.yozi.transaction.service;
+
+import com.example.yozi.transaction.dto.TransactionCursor;
+import com.example.yozi.transaction.entity.Transaction;
+import com.example.yozi.transaction.repository.TransactionRepository;
+import com.example.yozi.transaction.repository.TransactionRow;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 거래 목록 한 페이지(200건)를 엔티티로 읽을 때와 TransactionRow projection 으로 읽을 때의
+ * 요청당 할당 바이트와 조회 시간 비교 (H2 MySQL 모드, ./gradlew benchmarkTest).
+ * 엔티티 쪽은 기존 방식(JOIN FETCH user, 읽기/쓰기 트랜잭션 → dirty checking 스냅샷 포함)을 그대로 재현합니다.
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:yozi-projection;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=none"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TransactionProjectionBenchmarkTest {
+
+    private static final long USER_ID = 1L;
+    private static final int ROWS = 20_000;
+    private static final int PAGE_SIZE = 200;
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 1_000;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void seedLedger() {
+        if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class) > 0) {
+            return;
+        }
+        jdbcTemplate.update("INSERT INTO users (id, social_id, social_type, nickname, created_at, updated_at) " +
+                "VALUES (?, 'projection-user', 'KAKAO', '조회', NOW(), NOW())", USER_ID);
+
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        List<Object[]> batch = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            batch.add(new Object[]{USER_ID, i % 10 == 0 ? "INCOME" : "EXPENSE", 1 + i % 8, "CARD",
+                    "가맹점 " + (i % 300), 1_000 + i % 50_000, i % 5 == 0 ? "메모" : null,
+                    Date.valueOf(start.plusDays(i % 700))});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO transactions " +
+                "(user_id, type, category_id, payment_method, vendor, amount, memo, transaction_date) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", batch);
+    }
+
+    @Test
+    void entityVersusProjectionPage() {
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        TransactionCursor first = TransactionCursor.FIRST;
+
+        Measurement entity = measure(() -> readWrite.execute(status -> entityManager.createQuery(
+                        "SELECT t FROM Transaction t JOIN FETCH t.user WHERE t.user.id = :userId " +
+                                "AND (t.transactionDate < :date OR (t.transactionDate = :date AND t.id < :id)) " +
+                                "ORDER BY t.transactionDate DESC, t.id DESC", Transaction.class)
+                .setParameter("userId", USER_ID)
+                .setParameter("date", first.transactionDate())
+                .setParameter("id", first.id())
+                .setMaxResults(PAGE_SIZE)
+                .getResultList()
+                .size()));
+
+        Measurement projection = measure(() -> readOnly.execute(status -> {
+            List<TransactionRow> rows = transactionRepository.findPageByUserId(
+                    USER_ID, first.transactionDate(), first.id(), Limit.of(PAGE_SIZE));
+            return rows.size();
+        }));
+
+        System.out.printf("entity:     %,d bytes/request, %.3f ms/request%n", entity.bytes(), entity.millis());
+        System.out.printf("projection: %,d bytes/request, %.3f ms/request%n", projection.bytes(), projection.millis());
+
+        // 1 vCPU 장비에서 엔티티 약 155KB·5.0~5.3ms, projection 약 78KB·2.2~2.4ms 로 측정됨 (할당 약 1/2).
+        // 시간은 흔들림이 커서 할당만, 측정치보다 여유를 둔 비율로 확인
+        assertThat(projection.bytes()).isLessThan(entity.bytes() * 7 / 10);
+    }
+
+    private Measurement measure(Supplier<Integer> request) {
+        for (int i = 0; i < WARMUP; i++) {
+            assertThat(request.get()).isEqualTo(PAGE_SIZE);
+        }
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long started = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            request.get();
+        }
+        long elapsed = System.nanoTime() - started;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        return new Measurement(allocated / ITERATIONS, elapsed / 1_000_000.0 / ITERATIONS);
+    }
+
+    private record Measurement(long bytes, double millis) {}
+}
@@ -0,0 +1,64 @@
+package com.example.yozi.user.service;
+
+import com.example.yozi.config.ReadYourWritesTracker;
+import com.example.yozi.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 다른 인스턴스의 쓰기(이 인스턴스의 캐시를 지우지 않는 DB 변경) 반영과 캐시가 가득 찼을 때의 제거.
+ * users.data_version 은 맵으로 흉내 냅니다.
+ */
+class DataVersionServiceTest {
+
+    private final Map<Long, Long> database = new ConcurrentHashMap<>();
+    private DataVersionService dataVersionService;
+
+    @BeforeEach
+    void setUp() {
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findDataVersionById(anyLong())).thenAnswer(invocation ->
+                Optional.ofNullable(database.get(invocation.<Long>getArgument(0))));
+        dataVersionService = new DataVersionService(userRepository, new ReadYourWritesTracker(Duration.ofSeconds(5)),
+                mock(PlatformTransactionManager.class), false, Duration.ofHours(1), 10);
+    }
+
+    @Test
+    void freshSeesWritesFromOtherInstancesAndRefreshesTheCache() {
+        database.put(1L, 3L);
+        assertThat(dataVersionService.current(1L)).isEqualTo(3);
+
+        database.put(1L, 4L);
+        // 캐시는 TTL 까지 이전 값이지만, 304 판단용 조회는 DB 값
+        assertThat(dataVersionService.current(1L)).isEqualTo(3);
+        assertThat(dataVersionService.fresh(1L)).isEqualTo(4);
+        assertThat(dataVersionService.current(1L)).isEqualTo(4);
+    }
+
+    // 가득 차면 전부 비우지 않고 가장 오래 전에 읽은 항목부터 비움
+    @Test
+    void fullCacheEvictsOldestEntriesOnly() {
+        for (long userId = 1; userId <= 11; userId++) {
+            database.put(userId, 1L);
+            dataVersionService.current(userId);
+        }
+        for (long userId = 1; userId <= 11; userId++) {
+            database.put(userId, 2L);
+        }
+
+        assertThat(dataVersionService.current(1L)).isEqualTo(2);
+        assertThat(dataVersionService.current(10L)).isEqualTo(1);
+        assertThat(dataVersionService.current(11L)).isEqualTo(1);
+    }
+}
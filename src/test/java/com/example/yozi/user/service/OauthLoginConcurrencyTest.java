@@ -0,0 +1,165 @@
+package com.example.yozi.user.service;
+
+import com.example.yozi.config.OauthHttpClientConfig;
+import com.example.yozi.jwt.JwtKeyHolder;
+import com.example.yozi.user.entity.User;
+import com.example.yozi.user.entity.enums.SocialType;
+import com.example.yozi.user.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 로컬 스텁 OAuth 서버(카카오 응답 형식, 응답 지연 20ms)에 동시 로그인을 보내 지연 시간을 측정합니다 (./gradlew benchmarkTest).
+ * 공유 HttpClient 의 커넥션 재사용과 응답 타임아웃 동작을 함께 확인합니다.
+ */
+@Tag("benchmark")
+class OauthLoginConcurrencyTest {
+
+    private static final int CONCURRENCY = 32;
+    private static final int LOGINS_PER_THREAD = 20;
+    private static final Duration PROVIDER_LATENCY = Duration.ofMillis(20);
+
+    private HttpServer server;
+    private HttpClient httpClient;
+
+    @BeforeEach
+    void startStubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/oauth/token", exchange ->
+                respond(exchange, PROVIDER_LATENCY, "{\"access_token\":\"stub-token\",\"token_type\":\"bearer\"}"));
+        server.createContext("/v2/user/me", exchange ->
+                respond(exchange, PROVIDER_LATENCY, "{\"id\":1234,\"kakao_account\":{\"email\":\"stub@yozi.com\"}," +
+                        "\"properties\":{\"nickname\":\"스텁\"}}"));
+        server.createContext("/slow", exchange -> respond(exchange, Duration.ofSeconds(3), "{}"));
+        server.setExecutor(Executors.newFixedThreadPool(CONCURRENCY));
+        server.start();
+
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(1))
+                .build();
+    }
+
+    @AfterEach
+    void stopStubServer() {
+        server.stop(0);
+        httpClient.close();
+    }
+
+    @Test
+    void concurrentLoginsReuseTheSharedClient() throws Exception {
+        OauthService oauthService = oauthService(kakaoOauth(Duration.ofSeconds(2), "/oauth/token"));
+
+        oauthService.requestAccessToken(SocialType.KAKAO, "warm-up");
+
+        List<Long> latencies = new ArrayList<>();
+        ExecutorService pool = Executors.newFixedThreadPool(CONCURRENCY);
+        try {
+            List<Future<List<Long>>> futures = new ArrayList<>();
+            for (int t = 0; t < CONCURRENCY; t++) {
+                futures.add(pool.submit(() -> {
+                    List<Long> local = new ArrayList<>();
+                    for (int i = 0; i < LOGINS_PER_THREAD; i++) {
+                        long start = System.nanoTime();
+                        String jwt = oauthService.requestAccessToken(SocialType.KAKAO, "code-" + i);
+                        local.add(System.nanoTime() - start);
+                        assertThat(jwt).isNotBlank();
+                    }
+                    return local;
+                }));
+            }
+            for (Future<List<Long>> future : futures) {
+                latencies.addAll(future.get());
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        latencies.sort(null);
+        long p50 = latencies.get(latencies.size() / 2) / 1_000_000;
+        long p99 = latencies.get((int) (latencies.size() * 0.99)) / 1_000_000;
+        System.out.printf("oauth login x%d (동시 %d): p50=%dms, p99=%dms%n", latencies.size(), CONCURRENCY, p50, p99);
+
+        assertThat(latencies).hasSize(CONCURRENCY * LOGINS_PER_THREAD);
+        // 제공자 왕복 2회(40ms) 외에 커넥션 수립 비용이 로그인마다 붙지 않아야 함
+        assertThat(p50).isLessThan(PROVIDER_LATENCY.toMillis() * 2 + 200);
+    }
+
+    @Test
+    void slowProviderFailsWithinReadTimeout() {
+        KakaoOauth kakaoOauth = kakaoOauth(Duration.ofMillis(300), "/slow");
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> kakaoOauth.requestAccessToken("code"))
+                .isInstanceOf(ResourceAccessException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+    }
+
+    private KakaoOauth kakaoOauth(Duration readTimeout, String tokenPath) {
+        RestTemplate restTemplate = OauthHttpClientConfig.restTemplate(httpClient, readTimeout);
+        KakaoOauth kakaoOauth = new KakaoOauth(restTemplate);
+        String base = "http://127.0.0.1:" + server.getAddress().getPort();
+        ReflectionTestUtils.setField(kakaoOauth, "clientId", "stub-client");
+        ReflectionTestUtils.setField(kakaoOauth, "callbackUrl", "http://localhost/callback");
+        ReflectionTestUtils.setField(kakaoOauth, "tokenUrl", base + tokenPath);
+        ReflectionTestUtils.setField(kakaoOauth, "userInfoUrl", base + "/v2/user/me");
+        return kakaoOauth;
+    }
+
+    private OauthService oauthService(KakaoOauth kakaoOauth) {
+        User user = User.builder().id(1L).socialId("1234").socialType(SocialType.KAKAO).nickname("스텁").build();
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findBySocialIdAndSocialType(anyString(), any())).thenReturn(Optional.of(user));
+
+        String secret = Base64.getEncoder().encodeToString("stub-oauth-secret-0123456789abcdef".getBytes(StandardCharsets.UTF_8));
+        JwtService jwtService = new JwtService(new JwtKeyHolder(secret));
+        ReflectionTestUtils.setField(jwtService, "expirationTime", 3_600_000L);
+
+        return new OauthService(List.of(kakaoOauth), userRepository, jwtService, new ObjectMapper());
+    }
+
+    private static void respond(HttpExchange exchange, Duration delay, String json) throws IOException {
+        try {
+            exchange.getRequestBody().readAllBytes();
+            Thread.sleep(delay.toMillis());
+            byte[] body = json.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException ignored) {
+            // 타임아웃으로 클라이언트가 먼저 끊은 경우
+        } finally {
+            exchange.close();
+        }
+    }
+}